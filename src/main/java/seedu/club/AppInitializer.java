@@ -0,0 +1,152 @@
+package seedu.club;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.club.commons.core.Config;
+import seedu.club.commons.core.LogsCenter;
+import seedu.club.commons.exceptions.DataLoadingException;
+import seedu.club.commons.util.ConfigUtil;
+import seedu.club.commons.util.StringUtil;
+import seedu.club.model.ClubBook;
+import seedu.club.model.Model;
+import seedu.club.model.ModelManager;
+import seedu.club.model.ReadOnlyClubBook;
+import seedu.club.model.ReadOnlyUserPrefs;
+import seedu.club.model.UserPrefs;
+import seedu.club.model.util.SampleDataUtil;
+import seedu.club.storage.Storage;
+import seedu.club.storage.UserPrefsStorage;
+
+/**
+ * Reads the config, preferences and club book that the application starts with.
+ * Shared by the GUI in {@code MainApp} and the command line in {@code CliMain}, so that both start from the same data.
+ */
+class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s club book and {@code userPrefs}. <br>
+     * The data from the sample club book will be used instead if {@code storage}'s club book is not found.
+     * If errors occur when reading {@code storage}'s club book, its most recent readable backup will be used instead,
+     * or an empty club book if there is none.
+     */
+    static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getClubBookFilePath());
+
+        Optional<ReadOnlyClubBook> clubBookOptional;
+        ReadOnlyClubBook initialData;
+
+        try {
+            clubBookOptional = storage.readClubBook();
+
+            if (!clubBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getClubBookFilePath()
+                        + " populated with a sample ClubBook.");
+            }
+            initialData = clubBookOptional.orElseGet(SampleDataUtil::getSampleClubBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getClubBookFilePath() + " could not be loaded.");
+            initialData = readClubBookBackup(storage).orElseGet(() -> {
+                logger.warning("Will be starting with an empty ClubBook.");
+                return new ClubBook();
+            });
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns the most recent backup of {@code storage}'s club book that can be read, if any.
+     */
+    private static Optional<ReadOnlyClubBook> readClubBookBackup(Storage storage) {
+        for (Path backupFilePath : storage.getClubBookBackupFilePaths()) {
+            try {
+                Optional<ReadOnlyClubBook> backup = storage.readClubBook(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.warning("Will be starting with the backup data file at " + backupFilePath);
+                    return backup;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup data file at " + backupFilePath + " could not be loaded.");
+            }
+        }
+        return Optional.empty();
+    }
+}
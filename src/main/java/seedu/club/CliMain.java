@@ -0,0 +1,214 @@
+package seedu.club;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.club.commons.core.Config;
+import seedu.club.commons.core.LogsCenter;
+import seedu.club.commons.util.StringUtil;
+import seedu.club.logic.Logic;
+import seedu.club.logic.LogicManager;
+import seedu.club.logic.commands.CommandResult;
+import seedu.club.logic.commands.exceptions.CommandException;
+import seedu.club.logic.commands.general.RunScriptCommand.ScriptLine;
+import seedu.club.logic.parser.exceptions.ParseException;
+import seedu.club.model.Model;
+import seedu.club.model.UserPrefs;
+import seedu.club.server.ClubBookServer;
+import seedu.club.storage.ClubBookStorage;
+import seedu.club.storage.JsonClubBookStorage;
+import seedu.club.storage.JsonUserPrefsStorage;
+import seedu.club.storage.Storage;
+import seedu.club.storage.StorageManager;
+import seedu.club.storage.UserPrefsStorage;
+
+/**
+ * The entry point for running commands without the GUI, such as from scripts on a server without a display.
+ *
+ * Commands are read one per line from the file given as an argument, or from the standard input if there is none,
+ * and the feedback of each is printed to the standard output, or to the standard error if the command failed.
+ * Alternatively, given a port, the club book is served over HTTP by a {@code ClubBookServer} instead.
+ * The same config, preferences and data file as the GUI are used, but JavaFX is never started.
+ */
+public class CliMain {
+
+    public static final String MESSAGE_USAGE =
+            "Usage: java -jar EASync-cli.jar [--config=CONFIG_FILE] [COMMAND_FILE | --port=PORT]";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_CANNOT_READ_COMMANDS = "Could not read commands: %1$s";
+    public static final String MESSAGE_SERVING = "Serving club book at %1$s, press Ctrl+C to stop";
+    public static final String MESSAGE_CANNOT_SERVE = "Could not serve club book on port %1$s: %2$s";
+    public static final String PROMPT = "> ";
+
+    /** The exit status when at least one command failed. */
+    public static final int EXIT_STATUS_COMMAND_FAILED = 1;
+    /** The exit status when the commands could not be read. */
+    public static final int EXIT_STATUS_CANNOT_RUN = 2;
+
+    private static final String PORT_PARAMETER = "port";
+    private static final int MAX_PORT = 65535;
+
+    private static final Pattern NAMED_PARAMETER_FORMAT = Pattern.compile("--(?<name>[^=]+)=(?<value>.*)");
+
+    private static final Logger logger = LogsCenter.getLogger(CliMain.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code CliMain} that executes commands with {@code logic}, printing their feedback to {@code out},
+     * or to {@code err} if they fail.
+     */
+    public CliMain(Logic logic, PrintStream out, PrintStream err) {
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Executes the commands in {@code input}, one per line, until the input ends or a command exits the application.
+     * Blank lines and lines starting with {@value ScriptLine#COMMENT_MARKER} are skipped, and a command that fails
+     * does not stop the commands after it from being executed.
+     *
+     * @param isInteractive whether a prompt should be printed before each line is read.
+     * @return 0 if every command succeeded, or {@link #EXIT_STATUS_COMMAND_FAILED} otherwise.
+     * @throws IOException if the commands could not be read.
+     */
+    public int run(BufferedReader input, boolean isInteractive) throws IOException {
+        int exitStatus = 0;
+        int lineNumber = 0;
+        while (true) {
+            if (isInteractive) {
+                out.print(PROMPT);
+                out.flush();
+            }
+            String line = input.readLine();
+            if (line == null) {
+                return exitStatus;
+            }
+            lineNumber++;
+            if (ScriptLine.isSkipped(line)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(line.trim());
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    return exitStatus;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(isInteractive ? e.getMessage() : String.format(MESSAGE_COMMAND_FAILED, lineNumber,
+                        e.getMessage()));
+                exitStatus = EXIT_STATUS_COMMAND_FAILED;
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> commandFiles = new ArrayList<>();
+        for (String arg : args) {
+            Matcher matcher = NAMED_PARAMETER_FORMAT.matcher(arg);
+            if (matcher.matches()) {
+                namedParameters.put(matcher.group("name"), matcher.group("value"));
+            } else {
+                commandFiles.add(arg);
+            }
+        }
+        String portParameter = namedParameters.get(PORT_PARAMETER);
+        boolean isServing = portParameter != null;
+        if (commandFiles.size() > 1 || isServing && (!commandFiles.isEmpty() || !isValidPort(portParameter))) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(EXIT_STATUS_CANNOT_RUN);
+        }
+
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        ClubBookStorage clubBookStorage = new JsonClubBookStorage(userPrefs.getClubBookStorageFilePath());
+        // Saves each command's changes before the next command is read, as there is no window to keep responsive
+        Storage storage = new StorageManager(clubBookStorage, userPrefsStorage);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+        if (isServing) {
+            serve(logic, model, storage, Integer.parseInt(portParameter));
+            return;
+        }
+
+        CliMain cliMain = new CliMain(logic, System.out, System.err);
+
+        int exitStatus;
+        boolean isReadingStandardInput = commandFiles.isEmpty();
+        try (BufferedReader input = isReadingStandardInput
+                ? new BufferedReader(new InputStreamReader(System.in))
+                : Files.newBufferedReader(Paths.get(commandFiles.get(0)))) {
+            exitStatus = cliMain.run(input, isReadingStandardInput && System.console() != null);
+        } catch (IOException | InvalidPathException e) {
+            System.err.println(String.format(MESSAGE_CANNOT_READ_COMMANDS, e.getMessage()));
+            exitStatus = EXIT_STATUS_CANNOT_RUN;
+        }
+
+        saveClubBook(model, storage);
+        System.exit(exitStatus);
+    }
+
+    /**
+     * Serves the club book on {@code port} until the application is stopped, such as with Ctrl+C.
+     *
+     * @see ClubBookServer
+     */
+    private static void serve(Logic logic, Model model, Storage storage, int port) {
+        ClubBookServer server;
+        try {
+            server = new ClubBookServer(logic, port);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_CANNOT_SERVE, port, e.getMessage()));
+            System.exit(EXIT_STATUS_CANNOT_RUN);
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            saveClubBook(model, storage);
+        }, "Server shutdown"));
+        server.start();
+        System.out.println(String.format(MESSAGE_SERVING, server.getAddress()));
+    }
+
+    /**
+     * Folds the journal of changes back into the data file, as the GUI does when it is closed.
+     */
+    private static void saveClubBook(Model model, Storage storage) {
+        try {
+            storage.saveClubBook(model.getClubBook());
+        } catch (IOException e) {
+            logger.severe("Failed to save club book " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static boolean isValidPort(String port) {
+        try {
+            int portNumber = Integer.parseInt(port);
+            return portNumber >= 0 && portNumber <= MAX_PORT;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,28 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the keys, as extracted by {@code keyExtractor}, that are shared by more than one element of
+     * {@code items}, in the order in which each key was first found to be repeated.
+     * Each key is reported as it appears in its first occurrence.
+     * The check is done in a single pass using hashing, so the key type must have consistent
+     * {@code equals} and {@code hashCode} implementations.
+     */
+    public static <T, K> Set<K> findDuplicateKeys(Collection<? extends T> items,
+                                                 Function<? super T, ? extends K> keyExtractor) {
+        requireNonNull(items);
+        requireNonNull(keyExtractor);
+
+        Map<K, K> firstOccurrences = new HashMap<>();
+        Set<K> duplicateKeys = new LinkedHashSet<>();
+        for (T item : items) {
+            K key = keyExtractor.apply(item);
+            K firstOccurrence = firstOccurrences.putIfAbsent(key, key);
+            if (firstOccurrence != null) {
+                duplicateKeys.add(firstOccurrence);
+            }
+        }
+        return duplicateKeys;
+    }
 }
@@ -1,10 +1,17 @@
 package seedu.club.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 /**
  * Writes and reads files
@@ -12,6 +19,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +88,86 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file without ever leaving the file partially written.
+     * The string is written to a temporary file beside {@code file} and forced to disk, before the temporary file
+     * is moved over {@code file} in one step. Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, but lets {@code writeAction} stream the contents
+     * straight into a buffered stream instead of holding them in memory first.
+     */
+    public static void writeToFileAtomically(Path file, StreamWriteAction writeAction) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileOutputStream fileOut = new FileOutputStream(tempFile.toFile());
+                    BufferedOutputStream out = new BufferedOutputStream(fileOut)) {
+                writeAction.writeTo(out);
+                out.flush();
+                fileOut.getFD().sync();
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface StreamWriteAction {
+        /**
+         * Writes the contents to {@code out}, which must be left open.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in one step where the file system allows it.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Keeps the current contents of {@code file} as the first of {@code backupFiles}, shifting each existing backup
+     * one place down the list and discarding the last one. Does nothing if {@code file} does not exist.
+     */
+    public static void rotateBackups(Path file, List<Path> backupFiles) throws IOException {
+        if (!isFileExists(file) || backupFiles.isEmpty()) {
+            return;
+        }
+
+        for (int i = backupFiles.size() - 1; i > 0; i--) {
+            if (Files.exists(backupFiles.get(i - 1))) {
+                Files.move(backupFiles.get(i - 1), backupFiles.get(i), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path latestBackup = backupFiles.get(0);
+        Files.deleteIfExists(latestBackup);
+        try {
+            // A hard link keeps the old contents once file is replaced, without copying them
+            Files.createLink(latestBackup, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
 }
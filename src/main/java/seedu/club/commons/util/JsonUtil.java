@@ -2,7 +2,11 @@ package seedu.club.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +15,12 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -40,12 +46,26 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(jsonFile))) {
+            writeJson(out, objectToSerialize, true);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(jsonFile))) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Writes the JSON data representation of {@code instance} straight to {@code out}, without building it as a
+     * string first. {@code out} is left open.
+     * @param isPrettyPrinted whether the JSON is laid out over indented lines, or written on a single line.
+     */
+    public static <T> void writeJson(OutputStream out, T instance, boolean isPrettyPrinted) throws IOException {
+        ObjectWriter writer = isPrettyPrinted ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer();
+        writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, instance);
     }
 
     /**
@@ -92,6 +112,22 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves the Json object to the specified file, replacing any existing file in one step so that a failure
+     * midway never leaves it partially written.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @param isPrettyPrinted whether the JSON is laid out over indented lines, or written on a single line.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFileAtomically(T jsonFile, Path filePath, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeJson(out, jsonFile, isPrettyPrinted));
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +147,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
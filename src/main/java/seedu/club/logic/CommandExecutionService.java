@@ -0,0 +1,264 @@
+package seedu.club.logic;
+
+import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.club.commons.core.LogsCenter;
+import seedu.club.commons.util.StringUtil;
+import seedu.club.logic.commands.CommandResult;
+import seedu.club.logic.commands.exceptions.CommandException;
+import seedu.club.logic.parser.exceptions.ParseException;
+import seedu.club.model.ClubBookChanges;
+import seedu.club.model.ViewState;
+import seedu.club.model.name.Name;
+
+/**
+ * Executes commands through a {@code Logic} on a worker thread, one at a time in the order they are submitted,
+ * so that the thread submitting them is free to do other work in the meantime, such as keeping the UI responsive.
+ *
+ * The filtered lists of the {@code Logic}, and the members and events in them, change as commands run, so they must
+ * only be read by the worker thread. Instead, the details of the members and events to display are copied into
+ * immutable {@code DisplayedMember} and {@code DisplayedEvent} objects by the worker thread after each command.
+ * They are published with the view state to the displayed lists of this service through the given publisher,
+ * which should run them on the thread that reads the displayed lists.
+ *
+ * Only the members and events changed by a command are copied again, as reported by
+ * {@link Logic#getLatestClubBookChanges()}, and only the entries of the displayed lists that differ are replaced.
+ * Nothing is published to the displayed lists if a command leaves what they show unchanged.
+ */
+public class CommandExecutionService {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandExecutionService.class);
+
+    private final Logic logic;
+    private final Executor publisher;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Command executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ObservableList<DisplayedMember> displayedMembers;
+    private final ObservableList<DisplayedMember> unmodifiableDisplayedMembers;
+    private final ObservableList<DisplayedEvent> displayedEvents;
+    private final ObservableList<DisplayedEvent> unmodifiableDisplayedEvents;
+    private ViewState displayedViewState;
+    private CompletableFuture<Void> futureShutdown;
+
+    // Only used by the worker thread after construction: the copies last published, and the copies made so far
+    // by name, which are dropped when the members or events they were copied from change
+    private List<DisplayedMember> publishedMembers;
+    private List<DisplayedEvent> publishedEvents;
+    private ViewState publishedViewState;
+    private final Map<Name, DisplayedMember> memberCopies = new HashMap<>();
+    private final Map<Name, DisplayedEvent> eventCopies = new HashMap<>();
+
+    /**
+     * Creates a {@code CommandExecutionService} for {@code logic}, starting with the members, events and view state
+     * currently shown by it. Updates to them are run by {@code publisher}.
+     */
+    public CommandExecutionService(Logic logic, Executor publisher) {
+        requireAllNonNull(logic, publisher);
+        this.logic = logic;
+        this.publisher = publisher;
+        publishedViewState = logic.getViewState();
+        publishedMembers = copyDisplayedMembers();
+        publishedEvents = copyDisplayedEvents(publishedViewState);
+        displayedViewState = publishedViewState;
+        displayedMembers = FXCollections.observableArrayList(publishedMembers);
+        displayedEvents = FXCollections.observableArrayList(publishedEvents);
+        unmodifiableDisplayedMembers = FXCollections.unmodifiableObservableList(displayedMembers);
+        unmodifiableDisplayedEvents = FXCollections.unmodifiableObservableList(displayedEvents);
+    }
+
+    /**
+     * Executes {@code commandText} on the worker thread after the commands submitted before it.
+     * The returned future is completed by the publisher, after the displayed lists and view state are updated,
+     * with the result of the command or the {@code CommandException} or {@code ParseException} it failed with.
+     *
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> execute(String commandText) {
+        CompletableFuture<CommandResult> futureResult = new CompletableFuture<>();
+        worker.execute(() -> {
+            CommandResult commandResult = null;
+            Exception failure = null;
+            try {
+                commandResult = logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while executing command: " + StringUtil.getDetails(e));
+                failure = e;
+            }
+
+            publish(futureResult, commandResult, failure);
+        });
+        return futureResult;
+    }
+
+    private void publish(CompletableFuture<CommandResult> futureResult, CommandResult commandResult,
+                         Exception failure) {
+        ViewState viewState = logic.getViewState();
+        dropChangedCopies(logic.getLatestClubBookChanges(), viewState);
+        List<DisplayedMember> members = copyDisplayedMembers();
+        List<DisplayedEvent> events = copyDisplayedEvents(viewState);
+        boolean isMemberListChanged = !isSameCopies(members, publishedMembers);
+        boolean isEventListChanged = !isSameCopies(events, publishedEvents);
+        publishedMembers = members;
+        publishedEvents = events;
+        publishedViewState = viewState;
+
+        publisher.execute(() -> {
+            if (isMemberListChanged) {
+                replaceChangedEntries(displayedMembers, members);
+            }
+            if (isEventListChanged) {
+                replaceChangedEntries(displayedEvents, events);
+            }
+            displayedViewState = viewState;
+
+            if (failure == null) {
+                futureResult.complete(commandResult);
+            } else {
+                futureResult.completeExceptionally(failure);
+            }
+        });
+    }
+
+    /**
+     * Drops the copies of the members and events in {@code changes}, and of all the events if whether their role
+     * holders are displayed differs in {@code viewState}.
+     */
+    private void dropChangedCopies(ClubBookChanges changes, ViewState viewState) {
+        if (changes.isReset()) {
+            memberCopies.clear();
+            eventCopies.clear();
+            return;
+        }
+
+        changes.getUpdatedMembers().forEach(member -> memberCopies.remove(member.getName()));
+        memberCopies.keySet().removeAll(changes.getRemovedMemberNames());
+        if (isShowingRoleHolders(viewState) != isShowingRoleHolders(publishedViewState)) {
+            eventCopies.clear();
+        } else {
+            changes.getUpdatedEvents().forEach(event -> eventCopies.remove(event.getName()));
+            eventCopies.keySet().removeAll(changes.getRemovedEventNames());
+        }
+    }
+
+    private List<DisplayedMember> copyDisplayedMembers() {
+        return logic.getFilteredMemberList().stream()
+                .map(member -> memberCopies.computeIfAbsent(member.getName(), unused -> new DisplayedMember(member)))
+                .toList();
+    }
+
+    /**
+     * Copies the events to display, with the holders of their roles if they are displayed on their own
+     * in {@code viewState}.
+     */
+    private List<DisplayedEvent> copyDisplayedEvents(ViewState viewState) {
+        boolean includesRoleHolders = isShowingRoleHolders(viewState);
+        return logic.getFilteredEventList().stream()
+                .map(event -> eventCopies.computeIfAbsent(event.getName(),
+                        unused -> new DisplayedEvent(event, includesRoleHolders)))
+                .toList();
+    }
+
+    private static boolean isShowingRoleHolders(ViewState viewState) {
+        return viewState.equals(ViewState.SINGLE_EVENT);
+    }
+
+    /**
+     * Returns true if {@code copies} holds the same copies as {@code otherCopies}, in the same order.
+     */
+    private static <T> boolean isSameCopies(List<T> copies, List<T> otherCopies) {
+        if (copies.size() != otherCopies.size()) {
+            return false;
+        }
+        for (int i = 0; i < copies.size(); i++) {
+            if (copies.get(i) != otherCopies.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes {@code displayedList} hold the same copies as {@code copies}, replacing only the entries that differ,
+     * so that the cells showing the others are left as they are.
+     */
+    private static <T> void replaceChangedEntries(ObservableList<T> displayedList, List<T> copies) {
+        if (displayedList.size() == copies.size()) {
+            for (int i = 0; i < copies.size(); i++) {
+                if (displayedList.get(i) != copies.get(i)) {
+                    displayedList.set(i, copies.get(i));
+                }
+            }
+            return;
+        }
+
+        // entries were added or removed, so only the range between the unchanged start and end is replaced
+        int start = 0;
+        while (start < displayedList.size() && start < copies.size() && displayedList.get(start) == copies.get(start)) {
+            start++;
+        }
+        int displayedEnd = displayedList.size();
+        int copiesEnd = copies.size();
+        while (displayedEnd > start && copiesEnd > start
+                && displayedList.get(displayedEnd - 1) == copies.get(copiesEnd - 1)) {
+            displayedEnd--;
+            copiesEnd--;
+        }
+        displayedList.remove(start, displayedEnd);
+        displayedList.addAll(start, copies.subList(start, copiesEnd));
+    }
+
+    /**
+     * Returns the members to display, as of the latest command whose updates have been published.
+     * The list must only be read by the publisher's thread.
+     */
+    public ObservableList<DisplayedMember> getDisplayedMemberList() {
+        return unmodifiableDisplayedMembers;
+    }
+
+    /**
+     * Returns the events to display, as of the latest command whose updates have been published.
+     * The list must only be read by the publisher's thread.
+     */
+    public ObservableList<DisplayedEvent> getDisplayedEventList() {
+        return unmodifiableDisplayedEvents;
+    }
+
+    /**
+     * Returns the view state to display, as of the latest command whose updates have been published.
+     */
+    public ViewState getDisplayedViewState() {
+        return displayedViewState;
+    }
+
+    /**
+     * Stops the worker thread once the commands already submitted have been executed. The returned future is
+     * completed by the publisher after the updates of those commands, so the model is no longer changed by the worker
+     * thread by then. Commands can no longer be submitted after this is called.
+     */
+    public CompletableFuture<Void> shutdown() {
+        if (futureShutdown == null) {
+            CompletableFuture<Void> futureStop = new CompletableFuture<>();
+            worker.execute(() -> publisher.execute(() -> futureStop.complete(null)));
+            worker.shutdown();
+            futureShutdown = futureStop;
+        }
+        return futureShutdown;
+    }
+}
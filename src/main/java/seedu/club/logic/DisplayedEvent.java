@@ -0,0 +1,119 @@
+package seedu.club.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.club.commons.util.ToStringBuilder;
+import seedu.club.logic.parser.ParserUtil;
+import seedu.club.model.event.Event;
+import seedu.club.model.role.EventRole;
+
+/**
+ * The details of an {@code Event} to display, copied from it when the event was published.
+ * Guarantees: immutable, so it can be read by any thread while the event it was copied from changes.
+ */
+public final class DisplayedEvent {
+
+    private final String name;
+    private final String from;
+    private final String to;
+    private final String detail;
+    private final List<String> roleNames;
+    private final List<List<String>> roleHolderNames;
+
+    /**
+     * Copies the details of {@code event} to display, with its roles in order.
+     * The names of the members holding each role are only copied if {@code includesRoleHolders},
+     * as they are only shown when the event is displayed on its own.
+     */
+    public DisplayedEvent(Event event, boolean includesRoleHolders) {
+        requireNonNull(event);
+        name = event.getName().fullName;
+        from = ParserUtil.formatDateTime(event.getFrom());
+        to = ParserUtil.formatDateTime(event.getTo());
+        detail = event.getDetail();
+        List<EventRole> roles = event.getRoles().stream()
+                .sorted(Comparator.comparing(eventRole -> eventRole.roleName))
+                .toList();
+        roleNames = roles.stream()
+                .map(eventRole -> eventRole.roleName)
+                .toList();
+        roleHolderNames = !includesRoleHolders ? List.of() : roles.stream()
+                .map(eventRole -> event.getMembersWithRole(eventRole).stream()
+                        .map(member -> member.getName().fullName)
+                        .sorted()
+                        .toList())
+                .toList();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    /**
+     * Returns the names of the roles of the event, in order.
+     */
+    public List<String> getRoleNames() {
+        return roleNames;
+    }
+
+    /**
+     * Returns the names of the members holding each role of the event, in order, for the roles in the order of
+     * {@link #getRoleNames()}. Empty if the role holders were not copied.
+     */
+    public List<List<String>> getRoleHolderNames() {
+        return roleHolderNames;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DisplayedEvent)) {
+            return false;
+        }
+
+        DisplayedEvent otherDisplayedEvent = (DisplayedEvent) other;
+        return name.equals(otherDisplayedEvent.name)
+                && from.equals(otherDisplayedEvent.from)
+                && to.equals(otherDisplayedEvent.to)
+                && detail.equals(otherDisplayedEvent.detail)
+                && roleNames.equals(otherDisplayedEvent.roleNames)
+                && roleHolderNames.equals(otherDisplayedEvent.roleHolderNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, from, to, detail, roleNames, roleHolderNames);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("from", from)
+                .add("to", to)
+                .add("detail", detail)
+                .add("roleNames", roleNames)
+                .add("roleHolderNames", roleHolderNames)
+                .toString();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.club.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.club.commons.util.ToStringBuilder;
+import seedu.club.model.member.Member;
+import seedu.club.model.role.EventRole;
+
+/**
+ * The details of a {@code Member} to display, copied from it when the member was published.
+ * Guarantees: immutable, so it can be read by any thread while the member it was copied from changes.
+ */
+public final class DisplayedMember {
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final List<String> memberRoles;
+    private final List<String> eventRoles;
+
+    /**
+     * Copies the details of {@code member} to display, with its roles in order.
+     */
+    public DisplayedMember(Member member) {
+        requireNonNull(member);
+        name = member.getName().fullName;
+        phone = member.getPhone().value;
+        email = member.getEmail().value;
+        memberRoles = member.getMemberRoles().stream()
+                .map(memberRole -> memberRole.roleName)
+                .sorted()
+                .toList();
+        eventRoles = member.getEventRoles().stream()
+                .map(EventRole::toString)
+                .sorted()
+                .toList();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns the names of the member roles of the member, in order.
+     */
+    public List<String> getMemberRoles() {
+        return memberRoles;
+    }
+
+    /**
+     * Returns the event roles of the member, each with the name of its event, in order.
+     */
+    public List<String> getEventRoles() {
+        return eventRoles;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DisplayedMember)) {
+            return false;
+        }
+
+        DisplayedMember otherDisplayedMember = (DisplayedMember) other;
+        return name.equals(otherDisplayedMember.name)
+                && phone.equals(otherDisplayedMember.phone)
+                && email.equals(otherDisplayedMember.email)
+                && memberRoles.equals(otherDisplayedMember.memberRoles)
+                && eventRoles.equals(otherDisplayedMember.eventRoles);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email, memberRoles, eventRoles);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("phone", phone)
+                .add("email", email)
+                .add("memberRoles", memberRoles)
+                .add("eventRoles", eventRoles)
+                .toString();
+    }
+}
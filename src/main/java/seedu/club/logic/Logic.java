@@ -7,6 +7,7 @@ import seedu.club.commons.core.GuiSettings;
 import seedu.club.logic.commands.CommandResult;
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.logic.parser.exceptions.ParseException;
+import seedu.club.model.ClubBookChanges;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.ViewState;
 import seedu.club.model.event.Event;
@@ -42,6 +43,12 @@ public interface Logic {
      */
     ReadOnlyClubBook getClubBook();
 
+    /**
+     * Returns the changes made to the club book by the latest command executed, as they were saved after it.
+     * There are none if the command could not be parsed.
+     */
+    ClubBookChanges getLatestClubBookChanges();
+
     /** Returns an unmodifiable view of the filtered list of members */
     ObservableList<Member> getFilteredMemberList();
 
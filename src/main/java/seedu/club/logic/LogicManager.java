@@ -15,6 +15,7 @@ import seedu.club.logic.commands.CommandResult;
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.logic.parser.ClubBookParser;
 import seedu.club.logic.parser.exceptions.ParseException;
+import seedu.club.model.ClubBookChanges;
 import seedu.club.model.Model;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.ViewState;
@@ -36,6 +37,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final ClubBookParser clubBookParser;
+    private ClubBookChanges latestClubBookChanges = ClubBookChanges.NONE;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -50,19 +52,53 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        latestClubBookChanges = ClubBookChanges.NONE;
         CommandResult commandResult;
         Command command = clubBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        Exception commandFailure = null;
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            commandFailure = e;
+            throw e;
+        } finally {
+            // a command that fails partway, such as a script, may still have changed the club book
+            commitAndSaveClubBook(commandFailure);
+        }
+
+        return commandResult;
+    }
+
+    /**
+     * Adds the changes made to the club book by the latest command to the undo history and saves them,
+     * if it made any.
+     *
+     * @param commandFailure the exception the command failed with, if any, which is kept as suppressed by the
+     *     exception thrown if saving fails too.
+     */
+    private void commitAndSaveClubBook(Exception commandFailure) throws CommandException {
+        ClubBookChanges changes = model.pollClubBookChanges();
+        if (changes.isEmpty()) {
+            // such as a command that only changed the view, or failed before changing anything
+            return;
+        }
 
+        latestClubBookChanges = changes;
+        model.commitClubBook();
+        CommandException saveFailure;
         try {
-            storage.saveClubBook(model.getClubBook());
+            storage.saveClubBookChanges(model.getClubBook(), changes);
+            return;
         } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saveFailure = new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            saveFailure = new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
-        return commandResult;
+        if (commandFailure != null) {
+            saveFailure.addSuppressed(commandFailure);
+        }
+        throw saveFailure;
     }
 
     @Override
@@ -81,6 +117,11 @@ public class LogicManager implements Logic {
         return model.getClubBook();
     }
 
+    @Override
+    public ClubBookChanges getLatestClubBookChanges() {
+        return latestClubBookChanges;
+    }
+
     @Override
     public ObservableList<Member> getFilteredMemberList() {
         return model.getFilteredMemberList();
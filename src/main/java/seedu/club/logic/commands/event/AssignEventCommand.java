@@ -6,7 +6,9 @@ import static seedu.club.logic.parser.CliSyntax.PREFIX_MEMBER;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_ROLE;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.club.commons.util.ToStringBuilder;
 import seedu.club.logic.Messages;
@@ -39,6 +41,8 @@ public class AssignEventCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Assigned member to event: %1$s";
     public static final String MESSAGE_DUPLICATE_MEMBER = "This member already exists in the event";
+    public static final String MESSAGE_SCHEDULE_CONFLICT =
+            "Warning: %1$s is also assigned to event(s) at overlapping times: %2$s";
 
     private final Name eventName;
     private final Name memberName;
@@ -59,11 +63,8 @@ public class AssignEventCommand extends Command {
         requireNonNull(model);
 
         // Check if event exists
-        int eventIndex = model.eventNameIndex(eventName);
-        if (eventIndex == -1) {
-            throw new CommandException(String.format(Messages.MESSAGE_EVENT_NAME_NOT_EXIST, eventName));
-        }
-        Event event = model.getFullEventList().get(eventIndex);
+        Event event = model.findEventByName(eventName).orElseThrow(() ->
+                new CommandException(String.format(Messages.MESSAGE_EVENT_NAME_NOT_EXIST, eventName)));
 
         // Check if role exists, no role specified vacuously passes
         Set<EventRole> missingRoles = new HashSet<>(roles);
@@ -74,17 +75,16 @@ public class AssignEventCommand extends Command {
         }
 
         // Check if member exists
-        int memberIndex = model.memberNameIndex(memberName);
-        if (memberIndex == -1) {
-            throw new CommandException(String.format(Messages.MESSAGE_MEMBER_NAME_NOT_EXIST, memberName));
-        }
-        Member member = model.getFullMemberList().get(memberIndex);
+        Member member = model.findMemberByName(memberName).orElseThrow(() ->
+                new CommandException(String.format(Messages.MESSAGE_MEMBER_NAME_NOT_EXIST, memberName)));
 
         // Check if member already exists
         if (event.hasMember(member)) {
             throw new CommandException(MESSAGE_DUPLICATE_MEMBER);
         }
 
+        List<Event> conflictingEvents = model.findConflictingEvents(member, event);
+
         Set<EventRole> rolesToAssign = new HashSet<>();
         // Replace user-supplied roles with event's actual role objects
         for (EventRole roleFromUser : roles) {
@@ -103,13 +103,19 @@ public class AssignEventCommand extends Command {
         }
 
         member.addEventRoles(rolesToAssign);
-        event.addMember(member);
+        model.addToRoster(event, member);
 
         model.setViewState(ViewState.SINGLE_EVENT);
         model.updateFilteredEventList(e -> e.equals(event));
         model.updateFilteredMemberList(m -> event.getRoster().contains(m));
 
-        return new CommandResult(Messages.formatAssignRole(member, event, rolesToAssign));
+        String feedback = Messages.formatAssignRole(member, event, rolesToAssign);
+        if (!conflictingEvents.isEmpty()) {
+            feedback += "\n" + String.format(MESSAGE_SCHEDULE_CONFLICT, member.getName(), conflictingEvents.stream()
+                    .map(conflictingEvent -> conflictingEvent.getName().toString())
+                    .collect(Collectors.joining(", ")));
+        }
+        return new CommandResult(feedback);
     }
 
     @Override
@@ -3,6 +3,7 @@ package seedu.club.logic.commands.event;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.club.commons.core.index.Index;
 import seedu.club.commons.util.ToStringBuilder;
@@ -13,6 +14,7 @@ import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.model.Model;
 import seedu.club.model.ViewState;
 import seedu.club.model.event.Event;
+import seedu.club.model.role.EventRole;
 
 /**
  * Displays an event with its participating members,
@@ -28,6 +30,7 @@ public class DisplayEventCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DISPLAY_EVENT_SUCCESS = "Event: %1$s displayed successfully";
+    public static final String MESSAGE_VACANT_ROLES = "No one has been assigned to these role(s) yet: %1$s";
 
     private final Index targetIndex;
 
@@ -51,8 +54,15 @@ public class DisplayEventCommand extends Command {
         Event eventToBeDisplayed = filteredEventList.get(targetIndex.getZeroBased());
         model.setViewState(ViewState.SINGLE_EVENT);
         model.updateMemberAndEventList(eventToBeDisplayed);
-        return new CommandResult(String.format(MESSAGE_DISPLAY_EVENT_SUCCESS,
-                eventToBeDisplayed.getName()), false, false);
+
+        String feedback = String.format(MESSAGE_DISPLAY_EVENT_SUCCESS, eventToBeDisplayed.getName());
+        List<EventRole> vacantRoles = eventToBeDisplayed.getVacantRoles();
+        if (!vacantRoles.isEmpty()) {
+            feedback += "\n" + String.format(MESSAGE_VACANT_ROLES, vacantRoles.stream()
+                    .map(role -> role.roleName)
+                    .collect(Collectors.joining(", ")));
+        }
+        return new CommandResult(feedback, false, false);
     }
 
     @Override
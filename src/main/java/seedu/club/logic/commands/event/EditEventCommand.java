@@ -108,9 +108,8 @@ public class EditEventCommand extends Command {
         Set<Member> roster = editedEvent.getRoster();
         Set<EventRole> eventRoles = editedEvent.getRoles();
         for (Member member: roster) {
-            Member updatedMember = member.updateEditedEventRolesList(eventRoles, eventToEdit.getName(),
-                    editedEvent.getName());
-            model.setMember(member, updatedMember);
+            model.setMemberEventRoles(member, member.getEditedEventRoles(eventRoles, eventToEdit.getName(),
+                    editedEvent.getName()));
         }
         return new CommandResult(String.format(
                 MESSAGE_EDIT_EVENT_SUCCESS, Messages.format(editedEvent).replace('\\', '/')
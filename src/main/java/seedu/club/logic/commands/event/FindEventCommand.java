@@ -1,6 +1,13 @@
 package seedu.club.logic.commands.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
 
 import seedu.club.commons.util.ToStringBuilder;
 import seedu.club.logic.Messages;
@@ -9,11 +16,15 @@ import seedu.club.logic.commands.CommandResult;
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.model.Model;
 import seedu.club.model.ViewState;
+import seedu.club.model.event.DateTime;
 import seedu.club.model.event.Event;
+import seedu.club.model.name.Name;
 import seedu.club.model.name.NameContainsKeywordsPredicate;
+import seedu.club.model.name.NameKeyword;
 
 /**
- * Finds and lists all events in club book whose name contains any of the argument keywords.
+ * Finds and lists all events in club book whose name contains any of the argument keywords,
+ * or that take place during the given period.
  * Keyword matching is case-insensitive.
  */
 public class FindEventCommand extends Command {
@@ -22,12 +33,35 @@ public class FindEventCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all events whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " orientation movie";
+            + "End a keyword with " + NameKeyword.PREFIX_MARKER + " to match words starting with it, or with "
+            + NameKeyword.TYPO_MARKER + " to also match words with a typo or two.\n"
+            + "Example: " + COMMAND_WORD + " orientation movie\n"
+            + "Alternatively, finds all events taking place at any time during the specified period.\n"
+            + "Parameters: " + PREFIX_FROM + "FROM " + PREFIX_TO + "TO\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "151025 0000 " + PREFIX_TO + "201025 2359";
 
     private final NameContainsKeywordsPredicate<Event> predicate;
+    private final DateTime from;
+    private final DateTime to;
 
+    /**
+     * Creates a FindEventCommand to find the events whose names match {@code predicate}.
+     */
     public FindEventCommand(NameContainsKeywordsPredicate<Event> predicate) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.from = null;
+        this.to = null;
+    }
+
+    /**
+     * Creates a FindEventCommand to find the events taking place at any time from {@code from} to {@code to}.
+     */
+    public FindEventCommand(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        this.predicate = null;
+        this.from = from;
+        this.to = to;
     }
 
     @Override
@@ -35,7 +69,13 @@ public class FindEventCommand extends Command {
         requireNonNull(model);
 
         model.setViewState(ViewState.EVENT);
-        model.updateFilteredEventList(predicate);
+        if (predicate != null) {
+            Set<Name> matchingNames = model.findEventNamesContainingAnyOf(predicate.getKeywords());
+            model.updateFilteredEventList(event -> matchingNames.contains(event.getName()));
+        } else {
+            Set<Event> eventsInPeriod = new HashSet<>(model.findEventsBetween(from, to));
+            model.updateFilteredEventList(eventsInPeriod::contains);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
     }
@@ -52,13 +92,17 @@ public class FindEventCommand extends Command {
         }
 
         FindEventCommand otherFindEventCommand = (FindEventCommand) other;
-        return predicate.equals(otherFindEventCommand.predicate);
+        return Objects.equals(predicate, otherFindEventCommand.predicate)
+                && Objects.equals(from, otherFindEventCommand.from)
+                && Objects.equals(to, otherFindEventCommand.to);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("from", from)
+                .add("to", to)
                 .toString();
     }
 }
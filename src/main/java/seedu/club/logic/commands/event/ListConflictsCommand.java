@@ -0,0 +1,50 @@
+package seedu.club.logic.commands.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.club.logic.commands.Command;
+import seedu.club.logic.commands.CommandResult;
+import seedu.club.model.Model;
+import seedu.club.model.ViewState;
+import seedu.club.model.event.Event;
+import seedu.club.model.event.ScheduleConflict;
+
+/**
+ * Lists every member assigned to events that overlap in time, along with the events involved.
+ */
+public class ListConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "listConflicts";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d scheduling conflict(s):\n%2$s";
+    public static final String MESSAGE_NO_CONFLICTS = "There are currently no scheduling conflicts";
+    public static final String MESSAGE_CONFLICT = "%1$s: %2$s and %3$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScheduleConflict> conflicts = model.findScheduleConflicts();
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS);
+        }
+
+        Set<Event> conflictingEvents = new HashSet<>();
+        for (ScheduleConflict conflict : conflicts) {
+            conflictingEvents.add(conflict.getFirstEvent());
+            conflictingEvents.add(conflict.getSecondEvent());
+        }
+        model.setViewState(ViewState.EVENT);
+        model.updateFilteredEventList(conflictingEvents::contains);
+
+        String conflictList = conflicts.stream()
+                .map(conflict -> String.format(MESSAGE_CONFLICT, conflict.getMember().getName(),
+                        conflict.getFirstEvent().getName(), conflict.getSecondEvent().getName()))
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, conflicts.size(), conflictList));
+    }
+}
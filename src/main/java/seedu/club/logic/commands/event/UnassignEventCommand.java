@@ -61,16 +61,10 @@ public class UnassignEventCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        int eventIndex = model.eventNameIndex(eventName);
-        int memberIndex = model.memberNameIndex(memberName);
-        if (eventIndex == -1) {
-            throw new CommandException(String.format(MESSAGE_EVENT_NAME_NOT_EXIST, eventName));
-        }
-        if (memberIndex == -1) {
-            throw new CommandException(String.format(MESSAGE_MEMBER_NAME_NOT_EXIST, memberName));
-        }
-        Member member = model.getFullMemberList().get(memberIndex);
-        Event event = model.getFullEventList().get(eventIndex);
+        Event event = model.findEventByName(eventName).orElseThrow(() ->
+                new CommandException(String.format(MESSAGE_EVENT_NAME_NOT_EXIST, eventName)));
+        Member member = model.findMemberByName(memberName).orElseThrow(() ->
+                new CommandException(String.format(MESSAGE_MEMBER_NAME_NOT_EXIST, memberName)));
         if (!event.getRoster().contains(member)) {
             throw new CommandException(String.format(MESSAGE_MEMBER_NAME_NOT_IN_EVENT_ROSTER,
                     memberName, eventName));
@@ -78,7 +72,7 @@ public class UnassignEventCommand extends Command {
 
 
         member.removeEvent(event);
-        event.removeMemberFromRoster(member);
+        model.removeFromRoster(event, member);
         model.updateFilteredEventList(e -> e.equals(event));
         model.updateFilteredMemberList(m -> event.getRoster().contains(m));
         model.setViewState(ViewState.SINGLE_EVENT);
@@ -7,6 +7,7 @@ import static seedu.club.logic.parser.CliSyntax.PREFIX_EVENT;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_MEMBER;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_ROLE;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -74,16 +75,10 @@ public class UnassignEventRoleCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        int eventIndex = model.eventNameIndex(eventName);
-        int memberIndex = model.memberNameIndex(memberName);
-        if (eventIndex == -1) {
-            throw new CommandException(String.format(MESSAGE_EVENT_NAME_NOT_EXIST, eventName));
-        }
-        if (memberIndex == -1) {
-            throw new CommandException(String.format(MESSAGE_MEMBER_NAME_NOT_EXIST, memberName));
-        }
-        Member member = model.getFullMemberList().get(memberIndex);
-        Event event = model.getFullEventList().get(eventIndex);
+        Event event = model.findEventByName(eventName).orElseThrow(() ->
+                new CommandException(String.format(MESSAGE_EVENT_NAME_NOT_EXIST, eventName)));
+        Member member = model.findMemberByName(memberName).orElseThrow(() ->
+                new CommandException(String.format(MESSAGE_MEMBER_NAME_NOT_EXIST, memberName)));
 
         if (!event.getRoles().containsAll(roles)) {
             throw new CommandException(String.format(MESSAGE_EVENTROLE_NAME_NOT_EXIST,
@@ -95,13 +90,15 @@ public class UnassignEventRoleCommand extends Command {
                     event.getName(), roles));
         }
 
-        member.removeEventRole(roles);
+        Set<EventRole> updatedRoles = new HashSet<>(member.getEventRoles());
+        updatedRoles.removeAll(roles);
 
-        List<EventRole> relatedRoles = member.getEventRoles().stream()
+        List<EventRole> relatedRoles = updatedRoles.stream()
                 .filter(r -> r.getAssignedTo().equals(eventName)).toList();
         if (relatedRoles.isEmpty()) {
-            member.addEventRoles(Set.of(new EventRole(eventName)));
+            updatedRoles.add(new EventRole(eventName));
         }
+        model.setMemberEventRoles(member, updatedRoles);
 
         model.updateFilteredEventList(e -> e.equals(event));
         model.updateFilteredMemberList(m -> true);
@@ -0,0 +1,36 @@
+package seedu.club.logic.commands.general;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.club.logic.commands.Command;
+import seedu.club.logic.commands.CommandResult;
+import seedu.club.logic.commands.exceptions.CommandException;
+import seedu.club.model.Model;
+import seedu.club.model.ViewState;
+
+/**
+ * Reverses the latest undo command, as long as no other command has changed the club book since.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoClubBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoClubBook();
+        if (model.getViewState() == ViewState.SINGLE_EVENT) {
+            // the displayed event may no longer exist, so show the whole event list instead
+            model.setViewState(ViewState.EVENT);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
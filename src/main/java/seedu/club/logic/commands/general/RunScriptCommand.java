@@ -0,0 +1,177 @@
+package seedu.club.logic.commands.general;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.club.commons.util.ToStringBuilder;
+import seedu.club.logic.commands.Command;
+import seedu.club.logic.commands.CommandResult;
+import seedu.club.logic.commands.exceptions.CommandException;
+import seedu.club.model.Model;
+
+/**
+ * Runs the commands in a script file one after another, as a single change to the club book.
+ * The club book is saved once after the whole script has run, and the script is undone by a single undo.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String KEEP_CHANGES_FLAG = "--keep";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one per line. Blank lines and lines starting with "
+            + ScriptLine.COMMENT_MARKER + " are skipped.\n"
+            + "If a command fails, the script stops and the changes made by the commands before it are undone, "
+            + "unless " + KEEP_CHANGES_FLAG + " is given.\n"
+            + "Parameters: FILE_PATH [" + KEEP_CHANGES_FLAG + "]\n"
+            + "Example: " + COMMAND_WORD + " scripts/new_members.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d of %2$s failed: %3$s\n%4$s";
+    public static final String MESSAGE_CHANGES_ROLLED_BACK = "No changes were made by the script.";
+    public static final String MESSAGE_CHANGES_KEPT = "The %1$d command(s) before it were run.";
+
+    private final Path scriptPath;
+    private final List<ScriptLine> scriptLines;
+    private final boolean isKeepingChangesOnFailure;
+
+    /**
+     * Creates a RunScriptCommand to run the commands in {@code scriptLines}, read from {@code scriptPath}.
+     * If {@code isKeepingChangesOnFailure} is false, the changes made by the script are undone if any command fails.
+     */
+    public RunScriptCommand(Path scriptPath, List<ScriptLine> scriptLines, boolean isKeepingChangesOnFailure) {
+        requireAllNonNull(scriptPath, scriptLines);
+        this.scriptPath = scriptPath;
+        this.scriptLines = List.copyOf(scriptLines);
+        this.isKeepingChangesOnFailure = isKeepingChangesOnFailure;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // every command updates the displayed lists, but only the updates left at the end need to be shown
+        model.deferFilteredListUpdates();
+        try {
+            for (int i = 0; i < scriptLines.size(); i++) {
+                ScriptLine scriptLine = scriptLines.get(i);
+                try {
+                    scriptLine.command.execute(model);
+                } catch (CommandException ce) {
+                    throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, scriptLine.lineNumber,
+                            scriptPath, ce.getMessage(), handleFailure(model, i)), ce);
+                } catch (RuntimeException e) {
+                    handleFailure(model, i);
+                    throw e;
+                }
+            }
+        } finally {
+            model.applyDeferredFilteredListUpdates();
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, scriptLines.size(), scriptPath));
+    }
+
+    /**
+     * Undoes the changes made by the script if needed, after {@code commandsRun} commands have run successfully,
+     * and returns a message describing what was kept.
+     */
+    private String handleFailure(Model model, int commandsRun) {
+        if (isKeepingChangesOnFailure) {
+            return String.format(MESSAGE_CHANGES_KEPT, commandsRun);
+        }
+
+        model.discardClubBookChanges();
+        return MESSAGE_CHANGES_ROLLED_BACK;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunScriptCommand)) {
+            return false;
+        }
+
+        RunScriptCommand otherRunScriptCommand = (RunScriptCommand) other;
+        return scriptPath.equals(otherRunScriptCommand.scriptPath)
+                && scriptLines.equals(otherRunScriptCommand.scriptLines)
+                && isKeepingChangesOnFailure == otherRunScriptCommand.isKeepingChangesOnFailure;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("scriptLines", scriptLines)
+                .add("isKeepingChangesOnFailure", isKeepingChangesOnFailure)
+                .toString();
+    }
+
+    /**
+     * A command in a script, along with the line it was read from.
+     */
+    public static class ScriptLine {
+
+        public static final String COMMENT_MARKER = "#";
+
+        private final int lineNumber;
+        private final String commandText;
+        private final Command command;
+
+        /**
+         * Creates a ScriptLine for {@code command}, parsed from {@code commandText} on line {@code lineNumber}.
+         */
+        public ScriptLine(int lineNumber, String commandText, Command command) {
+            requireAllNonNull(commandText, command);
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.command = command;
+        }
+
+        /**
+         * Returns true if {@code line} holds no command to run.
+         */
+        public static boolean isSkipped(String line) {
+            String trimmedLine = line.trim();
+            return trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_MARKER);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ScriptLine)) {
+                return false;
+            }
+
+            ScriptLine otherScriptLine = (ScriptLine) other;
+            return lineNumber == otherScriptLine.lineNumber
+                    && commandText.equals(otherScriptLine.commandText);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, commandText);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("commandText", commandText)
+                    .toString();
+        }
+    }
+}
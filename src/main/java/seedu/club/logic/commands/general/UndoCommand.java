@@ -0,0 +1,36 @@
+package seedu.club.logic.commands.general;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.club.logic.commands.Command;
+import seedu.club.logic.commands.CommandResult;
+import seedu.club.logic.commands.exceptions.CommandException;
+import seedu.club.model.Model;
+import seedu.club.model.ViewState;
+
+/**
+ * Reverts the club book to its state before the latest command that changed it, which has not been undone.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoClubBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoClubBook();
+        if (model.getViewState() == ViewState.SINGLE_EVENT) {
+            // the displayed event may no longer exist, so show the whole event list instead
+            model.setViewState(ViewState.EVENT);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
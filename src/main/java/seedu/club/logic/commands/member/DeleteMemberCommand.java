@@ -1,7 +1,6 @@
 package seedu.club.logic.commands.member;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.club.model.event.Event.updateMemberInAllEvents;
 
 import java.util.List;
 
@@ -59,8 +58,6 @@ public class DeleteMemberCommand extends Command {
         model.setViewState(ViewState.MEMBER);
         model.deleteMember(memberToDelete);
 
-        updateMemberInAllEvents(model.getFullEventList(), memberToDelete, null);
-
         return new CommandResult(String.format(MESSAGE_DELETE_MEMBER_SUCCESS, Messages.format(memberToDelete)));
     }
 
@@ -6,7 +6,6 @@ import static seedu.club.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.club.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.club.model.Model.PREDICATE_SHOW_ALL_MEMBERS;
-import static seedu.club.model.event.Event.updateMemberInAllEvents;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -100,8 +99,6 @@ public class EditMemberCommand extends Command {
         model.setViewState(ViewState.MEMBER);
         model.setMember(memberToEdit, editedMember);
         model.updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
-
-        updateMemberInAllEvents(model.getClubBook().getEventList(), memberToEdit, editedMember);
         return new CommandResult(String.format(
                 MESSAGE_EDIT_MEMBER_SUCCESS, Messages.format(editedMember).replace('\\', '/'))
         );
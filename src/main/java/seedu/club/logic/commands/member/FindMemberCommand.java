@@ -1,6 +1,15 @@
 package seedu.club.logic.commands.member;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_ROLE;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.club.commons.util.ToStringBuilder;
 import seedu.club.logic.Messages;
@@ -9,11 +18,17 @@ import seedu.club.logic.commands.CommandResult;
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.model.Model;
 import seedu.club.model.ViewState;
+import seedu.club.model.member.Email;
 import seedu.club.model.member.Member;
+import seedu.club.model.member.Phone;
+import seedu.club.model.name.Name;
 import seedu.club.model.name.NameContainsKeywordsPredicate;
+import seedu.club.model.name.NameKeyword;
+import seedu.club.model.role.MemberRole;
 
 /**
- * Finds and lists all members in club book whose name contains any of the argument keywords.
+ * Finds and lists all members in club book whose name contains any of the argument keywords,
+ * and who have the given phone, email and any of the given member roles.
  * Keyword matching is case-insensitive.
  */
 public class FindMemberCommand extends Command {
@@ -23,12 +38,34 @@ public class FindMemberCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all members whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "End a keyword with " + NameKeyword.PREFIX_MARKER + " to match words starting with it, or with "
+            + NameKeyword.TYPO_MARKER + " to also match words with a typo or two.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Members can also be found by their exact phone or email, or by any of the specified member roles, "
+            + "optionally together with keywords.\n"
+            + "Parameters: [KEYWORD]... [" + PREFIX_PHONE + "PHONE] [" + PREFIX_EMAIL + "EMAIL] ["
+            + PREFIX_ROLE + "MEMBER_ROLE]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ROLE + "treasurer";
 
     private final NameContainsKeywordsPredicate<Member> predicate;
+    private final FindMemberDescriptor findMemberDescriptor;
 
+    /**
+     * Creates a FindMemberCommand to find the members whose names match {@code predicate}.
+     */
     public FindMemberCommand(NameContainsKeywordsPredicate<Member> predicate) {
+        this(predicate, new FindMemberDescriptor());
+    }
+
+    /**
+     * Creates a FindMemberCommand to find the members whose names match {@code predicate}, if it is given,
+     * and whose fields match {@code findMemberDescriptor}.
+     */
+    public FindMemberCommand(NameContainsKeywordsPredicate<Member> predicate,
+                             FindMemberDescriptor findMemberDescriptor) {
+        requireNonNull(findMemberDescriptor);
         this.predicate = predicate;
+        this.findMemberDescriptor = new FindMemberDescriptor(findMemberDescriptor);
     }
 
     @Override
@@ -36,11 +73,53 @@ public class FindMemberCommand extends Command {
         requireNonNull(model);
 
         model.setViewState(ViewState.MEMBER);
-        model.updateFilteredMemberList(predicate);
+        Set<Name> matchingNames = findMatchingNames(model);
+        model.updateFilteredMemberList(member -> matchingNames.contains(member.getName()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_MEMBERS_LISTED_OVERVIEW, model.getFilteredMemberList().size()));
     }
 
+    /**
+     * Returns the names of the members that meet every given criterion, looking each criterion up in the
+     * indexes of {@code model}.
+     */
+    private Set<Name> findMatchingNames(Model model) {
+        Set<Name> matchingNames = null;
+        if (predicate != null) {
+            matchingNames = model.findMemberNamesContainingAnyOf(predicate.getKeywords());
+        }
+
+        Optional<Phone> phone = findMemberDescriptor.getPhone();
+        if (phone.isPresent()) {
+            matchingNames = retain(matchingNames, model.findMemberNamesWithPhone(phone.get()));
+        }
+        Optional<Email> email = findMemberDescriptor.getEmail();
+        if (email.isPresent()) {
+            matchingNames = retain(matchingNames, model.findMemberNamesWithEmail(email.get()));
+        }
+        Optional<Set<MemberRole>> roles = findMemberDescriptor.getRoles();
+        if (roles.isPresent()) {
+            Set<Name> namesWithAnyRole = new HashSet<>();
+            for (MemberRole role : roles.get()) {
+                namesWithAnyRole.addAll(model.findMemberNamesWithRole(role));
+            }
+            matchingNames = retain(matchingNames, namesWithAnyRole);
+        }
+        return matchingNames != null ? matchingNames : Set.of();
+    }
+
+    /**
+     * Returns the names in both {@code matchingNames} and {@code otherNames}, or all of {@code otherNames} if
+     * {@code matchingNames} is {@code null} because no criterion has been applied yet.
+     */
+    private static Set<Name> retain(Set<Name> matchingNames, Set<Name> otherNames) {
+        Set<Name> retainedNames = new HashSet<>(otherNames);
+        if (matchingNames != null) {
+            retainedNames.retainAll(matchingNames);
+        }
+        return retainedNames;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -53,13 +132,102 @@ public class FindMemberCommand extends Command {
         }
 
         FindMemberCommand otherFindMemberCommand = (FindMemberCommand) other;
-        return predicate.equals(otherFindMemberCommand.predicate);
+        return Objects.equals(predicate, otherFindMemberCommand.predicate)
+                && findMemberDescriptor.equals(otherFindMemberCommand.findMemberDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("findMemberDescriptor", findMemberDescriptor)
                 .toString();
     }
+
+    /**
+     * Stores the fields to find the member with. Each non-empty field value must be matched by the member.
+     */
+    public static class FindMemberDescriptor {
+        private Phone phone;
+        private Email email;
+        private Set<MemberRole> roles;
+
+        public FindMemberDescriptor() {}
+
+        /**
+         * Copy constructor.
+         * A defensive copy of {@code roles} is used internally.
+         */
+        public FindMemberDescriptor(FindMemberDescriptor toCopy) {
+            setPhone(toCopy.phone);
+            setEmail(toCopy.email);
+            setRoles(toCopy.roles);
+        }
+
+        /**
+         * Returns true if at least one field is to be matched.
+         */
+        public boolean isAnyFieldSet() {
+            return phone != null || email != null || roles != null;
+        }
+
+        public void setPhone(Phone phone) {
+            this.phone = phone;
+        }
+
+        public Optional<Phone> getPhone() {
+            return Optional.ofNullable(phone);
+        }
+
+        public void setEmail(Email email) {
+            this.email = email;
+        }
+
+        public Optional<Email> getEmail() {
+            return Optional.ofNullable(email);
+        }
+
+        /**
+         * Sets {@code roles} to this object's {@code roles}, of which a member must have at least one.
+         * A defensive copy of {@code roles} is used internally, and an empty set is treated as no roles to match.
+         */
+        public void setRoles(Set<MemberRole> roles) {
+            this.roles = (roles != null && !roles.isEmpty()) ? new HashSet<>(roles) : null;
+        }
+
+        /**
+         * Returns an unmodifiable role set, which throws {@code UnsupportedOperationException}
+         * if modification is attempted.
+         * Returns {@code Optional#empty()} if {@code roles} is null.
+         */
+        public Optional<Set<MemberRole>> getRoles() {
+            return (roles != null) ? Optional.of(Collections.unmodifiableSet(roles)) : Optional.empty();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof FindMemberDescriptor)) {
+                return false;
+            }
+
+            FindMemberDescriptor otherFindMemberDescriptor = (FindMemberDescriptor) other;
+            return Objects.equals(phone, otherFindMemberDescriptor.phone)
+                    && Objects.equals(email, otherFindMemberDescriptor.email)
+                    && Objects.equals(roles, otherFindMemberDescriptor.roles);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("phone", phone)
+                    .add("email", email)
+                    .add("roles", roles)
+                    .toString();
+        }
+    }
 }
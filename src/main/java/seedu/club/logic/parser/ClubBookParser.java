@@ -15,12 +15,16 @@ import seedu.club.logic.commands.event.DeleteEventCommand;
 import seedu.club.logic.commands.event.DisplayEventCommand;
 import seedu.club.logic.commands.event.EditEventCommand;
 import seedu.club.logic.commands.event.FindEventCommand;
+import seedu.club.logic.commands.event.ListConflictsCommand;
 import seedu.club.logic.commands.event.ListEventCommand;
 import seedu.club.logic.commands.event.UnassignEventCommand;
 import seedu.club.logic.commands.event.UnassignEventRoleCommand;
 import seedu.club.logic.commands.general.ClearCommand;
 import seedu.club.logic.commands.general.ExitCommand;
 import seedu.club.logic.commands.general.HelpCommand;
+import seedu.club.logic.commands.general.RedoCommand;
+import seedu.club.logic.commands.general.RunScriptCommand;
+import seedu.club.logic.commands.general.UndoCommand;
 import seedu.club.logic.commands.member.AddMemberCommand;
 import seedu.club.logic.commands.member.DeleteMemberCommand;
 import seedu.club.logic.commands.member.EditMemberCommand;
@@ -91,6 +95,8 @@ public class ClubBookParser {
             return new EditEventCommandParser().parse(arguments);
         } else if (commandWord.equalsIgnoreCase(ListEventCommand.COMMAND_WORD)) {
             return new ListEventCommand();
+        } else if (commandWord.equalsIgnoreCase(ListConflictsCommand.COMMAND_WORD)) {
+            return new ListConflictsCommand();
         } else if (commandWord.equalsIgnoreCase(FindEventCommand.COMMAND_WORD)) {
             return new FindEventCommandParser().parse(arguments);
         } else if (commandWord.equalsIgnoreCase(AssignEventCommand.COMMAND_WORD)) {
@@ -99,6 +105,12 @@ public class ClubBookParser {
             return new DisplayEventCommandParser().parse(arguments);
         } else if (commandWord.equalsIgnoreCase(ClearCommand.COMMAND_WORD)) {
             return new ClearCommand();
+        } else if (commandWord.equalsIgnoreCase(UndoCommand.COMMAND_WORD)) {
+            return new UndoCommand();
+        } else if (commandWord.equalsIgnoreCase(RedoCommand.COMMAND_WORD)) {
+            return new RedoCommand();
+        } else if (commandWord.equalsIgnoreCase(RunScriptCommand.COMMAND_WORD)) {
+            return new RunScriptCommandParser(this).parse(arguments);
         } else if (commandWord.equalsIgnoreCase(HelpCommand.COMMAND_WORD)) {
             return new HelpCommand();
         } else if (commandWord.equalsIgnoreCase(ExitCommand.COMMAND_WORD)) {
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.StringUtil.hasLessThanOrEqualLength;
 import static seedu.club.commons.util.StringUtil.normalizeAndTrimWhitespace;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.club.commons.core.index.Index;
@@ -16,6 +18,7 @@ import seedu.club.model.event.Event;
 import seedu.club.model.member.Email;
 import seedu.club.model.member.Phone;
 import seedu.club.model.name.Name;
+import seedu.club.model.name.NameKeyword;
 import seedu.club.model.role.EventRole;
 import seedu.club.model.role.MemberRole;
 
@@ -164,6 +167,23 @@ public class ParserUtil {
         return new DateTime(trimmedDateTime);
     }
 
+    /**
+     * Parses {@code String keywords} into the list of name keywords separated by whitespace.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if any of the keywords is invalid.
+     */
+    public static List<String> parseNameKeywords(String keywords) throws ParseException {
+        requireNonNull(keywords);
+        List<String> nameKeywords = Arrays.asList(keywords.trim().split("\\s+"));
+        for (String keyword : nameKeywords) {
+            if (!NameKeyword.isValidKeyword(keyword)) {
+                throw new ParseException(NameKeyword.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return nameKeywords;
+    }
+
     /**
      * Formats the {@code DateTime} into a readable string.
      */
@@ -0,0 +1,108 @@
+package seedu.club.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.club.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.club.logic.commands.Command;
+import seedu.club.logic.commands.general.RedoCommand;
+import seedu.club.logic.commands.general.RunScriptCommand;
+import seedu.club.logic.commands.general.RunScriptCommand.ScriptLine;
+import seedu.club.logic.commands.general.UndoCommand;
+import seedu.club.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object, reading and parsing every command in the script
+ * so that a script with an invalid command is rejected before any of it is run.
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read the script file %1$s";
+    public static final String MESSAGE_INVALID_SCRIPT_LINE = "Line %1$d of the script is invalid: %2$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "Line %1$d of the script is invalid: "
+            + "%2$s cannot be used in a script";
+
+    private static final Pattern ARGUMENTS_FORMAT = Pattern.compile(
+            "(?<path>\\S.*?)(?<keepFlag>\\s+" + Pattern.quote(RunScriptCommand.KEEP_CHANGES_FLAG) + ")?");
+
+    /** Commands that work on other scripts or on the undo history, which a script is run as a single step of. */
+    private static final List<String> DISALLOWED_COMMAND_WORDS = List.of(RunScriptCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD);
+
+    private final ClubBookParser clubBookParser;
+
+    /**
+     * Creates a RunScriptCommandParser that parses each command in a script with {@code clubBookParser}.
+     */
+    public RunScriptCommandParser(ClubBookParser clubBookParser) {
+        requireNonNull(clubBookParser);
+        this.clubBookParser = clubBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the script cannot be read
+     *     or contains an invalid command
+     */
+    public RunScriptCommand parse(String args) throws ParseException {
+        Matcher matcher = ARGUMENTS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+
+        boolean isKeepingChangesOnFailure = matcher.group("keepFlag") != null;
+        Path scriptPath = parseScriptPath(matcher.group("path"));
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_SCRIPT, scriptPath), ioe);
+        }
+
+        return new RunScriptCommand(scriptPath, parseScriptLines(lines), isKeepingChangesOnFailure);
+    }
+
+    private static Path parseScriptPath(String path) throws ParseException {
+        try {
+            return Paths.get(path);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_SCRIPT, path), ipe);
+        }
+    }
+
+    private List<ScriptLine> parseScriptLines(List<String> lines) throws ParseException {
+        List<ScriptLine> scriptLines = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (ScriptLine.isSkipped(line)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            // checked before parsing, as parsing a script that runs itself would never end
+            String commandWord = line.trim().split("\\s+")[0];
+            if (DISALLOWED_COMMAND_WORDS.stream().anyMatch(commandWord::equalsIgnoreCase)) {
+                throw new ParseException(String.format(MESSAGE_COMMAND_NOT_ALLOWED, lineNumber, commandWord));
+            }
+
+            Command command;
+            try {
+                command = clubBookParser.parseCommand(line);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_SCRIPT_LINE, lineNumber, pe.getMessage()), pe);
+            }
+            scriptLines.add(new ScriptLine(lineNumber, line.trim(), command));
+        }
+        return scriptLines;
+    }
+}
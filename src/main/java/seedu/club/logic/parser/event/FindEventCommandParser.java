@@ -1,12 +1,19 @@
 package seedu.club.logic.parser.event;
 
+import static seedu.club.logic.Messages.MESSAGE_END_BEFORE_START_DATE;
 import static seedu.club.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_TO;
 
-import java.util.Arrays;
+import java.util.List;
 
 import seedu.club.logic.commands.event.FindEventCommand;
+import seedu.club.logic.parser.ArgumentMultimap;
+import seedu.club.logic.parser.ArgumentTokenizer;
 import seedu.club.logic.parser.Parser;
+import seedu.club.logic.parser.ParserUtil;
 import seedu.club.logic.parser.exceptions.ParseException;
+import seedu.club.model.event.DateTime;
 import seedu.club.model.name.NameContainsKeywordsPredicate;
 
 /**
@@ -19,14 +26,39 @@ public class FindEventCommandParser implements Parser<FindEventCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindEventCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        if (argMultimap.getValue(PREFIX_FROM).isPresent() || argMultimap.getValue(PREFIX_TO).isPresent()) {
+            return parsePeriod(argMultimap);
+        }
+
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = ParserUtil.parseNameKeywords(trimmedArgs);
+
+        return new FindEventCommand(new NameContainsKeywordsPredicate<>(nameKeywords));
+    }
+
+    /**
+     * Parses the period given by {@code argMultimap} into a FindEventCommand for the events taking place during it.
+     * @throws ParseException if the period is incomplete, or ends before it starts
+     */
+    private FindEventCommand parsePeriod(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.arePrefixesPresent(PREFIX_FROM, PREFIX_TO) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+        DateTime from = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_FROM).get());
+        DateTime to = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_TO).get());
+        if (to.isBefore(from)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START_DATE);
+        }
 
-        return new FindEventCommand(new NameContainsKeywordsPredicate<>(Arrays.asList(nameKeywords)));
+        return new FindEventCommand(from, to);
     }
 }
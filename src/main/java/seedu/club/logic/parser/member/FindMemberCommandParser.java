@@ -1,12 +1,20 @@
 package seedu.club.logic.parser.member;
 
 import static seedu.club.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_ROLE;
 
-import java.util.Arrays;
+import java.util.List;
 
 import seedu.club.logic.commands.member.FindMemberCommand;
+import seedu.club.logic.commands.member.FindMemberCommand.FindMemberDescriptor;
+import seedu.club.logic.parser.ArgumentMultimap;
+import seedu.club.logic.parser.ArgumentTokenizer;
 import seedu.club.logic.parser.Parser;
+import seedu.club.logic.parser.ParserUtil;
 import seedu.club.logic.parser.exceptions.ParseException;
+import seedu.club.model.member.Member;
 import seedu.club.model.name.NameContainsKeywordsPredicate;
 
 /**
@@ -19,14 +27,39 @@ public class FindMemberCommandParser implements Parser<FindMemberCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindMemberCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ROLE);
+
+        String preamble = argMultimap.getPreamble();
+        FindMemberDescriptor findMemberDescriptor = parseFindMemberDescriptor(argMultimap);
+        if (preamble.isEmpty() && !findMemberDescriptor.isAnyFieldSet()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMemberCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        NameContainsKeywordsPredicate<Member> predicate = null;
+        if (!preamble.isEmpty()) {
+            List<String> nameKeywords = ParserUtil.parseNameKeywords(preamble);
+            predicate = new NameContainsKeywordsPredicate<>(nameKeywords);
+        }
+
+        return new FindMemberCommand(predicate, findMemberDescriptor);
+    }
 
-        return new FindMemberCommand(new NameContainsKeywordsPredicate<>(Arrays.asList(nameKeywords)));
+    /**
+     * Parses the phone, email and member roles given in {@code argMultimap} into a {@code FindMemberDescriptor}.
+     * @throws ParseException if any of them is invalid, or a phone or email is given more than once
+     */
+    private FindMemberDescriptor parseFindMemberDescriptor(ArgumentMultimap argMultimap) throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE, PREFIX_EMAIL);
+        FindMemberDescriptor findMemberDescriptor = new FindMemberDescriptor();
+        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
+            findMemberDescriptor.setPhone(ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get()));
+        }
+        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            findMemberDescriptor.setEmail(ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get()));
+        }
+        findMemberDescriptor.setRoles(ParserUtil.parseMemberRoles(argMultimap.getAllValues(PREFIX_ROLE)));
+        return findMemberDescriptor;
     }
 }
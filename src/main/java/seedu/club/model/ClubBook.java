@@ -1,15 +1,35 @@
 package seedu.club.model;
 
 import static java.util.Objects.requireNonNull;
-
+import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.club.commons.util.ToStringBuilder;
+import seedu.club.model.event.DateTime;
 import seedu.club.model.event.Event;
+import seedu.club.model.event.EventTimeIndex;
+import seedu.club.model.event.ScheduleConflict;
 import seedu.club.model.event.UniqueEventList;
+import seedu.club.model.member.Email;
 import seedu.club.model.member.Member;
+import seedu.club.model.member.Phone;
 import seedu.club.model.member.UniqueMemberList;
+import seedu.club.model.member.exceptions.MemberNotFoundException;
+import seedu.club.model.name.Name;
+import seedu.club.model.role.EventRole;
+import seedu.club.model.role.MemberRole;
 
 /**
  * Wraps all data at the club-book level
@@ -20,6 +40,24 @@ public class ClubBook implements ReadOnlyClubBook {
     private final UniqueMemberList members;
     private final UniqueEventList events;
 
+    /*
+     * Reverse index from member identity to the events whose roster contains that member, so that edits and
+     * deletions of a member only visit the events the member actually takes part in.
+     */
+    private final Map<Name, Set<Event>> eventsByMember = new HashMap<>();
+
+    // The same events as eventsByMember, indexed by time so that clashes with a member's other events are found quickly
+    private final Map<Name, EventTimeIndex> timelinesByMember = new HashMap<>();
+
+    // Names of the members and events touched since the changes were last collected by pollChanges()
+    private final Set<Name> changedMemberNames = new LinkedHashSet<>();
+    private final Set<Name> changedEventNames = new LinkedHashSet<>();
+    private boolean isReset;
+
+    // The changes made since the last call to pollEdit(), recorded only after startRecordingEdits() is called
+    private ClubBookEdit pendingEdit;
+    private boolean isReplayingEdit;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -49,7 +87,15 @@ public class ClubBook implements ReadOnlyClubBook {
      * {@code members} must not contain duplicate members.
      */
     public void setMembers(List<Member> members) {
+        List<Member> previousMembers = isRecordingEdits() ? List.copyOf(this.members.asUnmodifiableObservableList())
+                : null;
         this.members.setMembers(members);
+        isReset = true;
+
+        if (isRecordingEdits()) {
+            List<Member> currentMembers = List.copyOf(members);
+            recordEdit(() -> setMembers(previousMembers), () -> setMembers(currentMembers));
+        }
     }
 
     /**
@@ -57,7 +103,16 @@ public class ClubBook implements ReadOnlyClubBook {
      * {@code events} must not contain duplicate events.
      */
     public void setEvents(List<Event> events) {
+        List<Event> previousEvents = isRecordingEdits() ? List.copyOf(this.events.asUnmodifiableObservableList())
+                : null;
         this.events.setEvents(events);
+        rebuildRosterIndex();
+        isReset = true;
+
+        if (isRecordingEdits()) {
+            List<Event> currentEvents = List.copyOf(events);
+            recordEdit(() -> setEvents(previousEvents), () -> setEvents(currentEvents));
+        }
     }
 
     /**
@@ -80,12 +135,22 @@ public class ClubBook implements ReadOnlyClubBook {
         return members.contains(member);
     }
 
+    /**
+     * Returns the member in the club book whose name is equivalent to {@code name}, if any.
+     */
+    public Optional<Member> findMember(Name name) {
+        requireNonNull(name);
+        return members.findByName(name);
+    }
+
     /**
      * Adds a member to the club book.
      * The member must not already exist in the club book.
      */
     public void addMember(Member p) {
         members.add(p);
+        changedMemberNames.add(p.getName());
+        recordEdit(() -> removeMember(p), () -> addMember(p));
     }
 
     /**
@@ -97,14 +162,50 @@ public class ClubBook implements ReadOnlyClubBook {
         requireNonNull(editedMember);
 
         members.setMember(target, editedMember);
+        changedMemberNames.add(target.getName());
+        changedMemberNames.add(editedMember.getName());
+        updateMemberInRosters(target, editedMember);
+        recordEdit(() -> setMember(editedMember, target), () -> setMember(target, editedMember));
+    }
+
+    /**
+     * Replaces the event roles of {@code member} with {@code eventRoles}, and updates the roles held in the events
+     * whose rosters it is in to match.
+     * {@code member} must exist in the club book.
+     */
+    public void setMemberEventRoles(Member member, Set<EventRole> eventRoles) {
+        requireAllNonNull(member, eventRoles);
+        if (members.indexOf(member) == -1) {
+            throw new MemberNotFoundException();
+        }
+
+        Map<Event, Set<EventRole>> previousRoles = getRolesInEvents(member);
+        member.setEventRoles(eventRoles);
+        updateRolesOfMember(member);
+        Map<Event, Set<EventRole>> currentRoles = getRolesInEvents(member);
+        recordEdit(() -> setRolesInEvents(member, previousRoles), () -> setRolesInEvents(member, currentRoles));
     }
 
     /**
-     * Removes {@code key} (member) from this {@code ClubBook}.
+     * Removes {@code key} (member) from this {@code ClubBook}, along with its place in every event roster.
      * {@code key} must exist in the club book.
      */
     public void removeMember(Member key) {
+        // where the member was and the rosters it was in are only needed to undo its removal
+        boolean isRecording = isRecordingEdits();
+        int index = isRecording ? members.indexOf(key) : -1;
+        List<Event> rosterEvents = isRecording
+                ? getEventsOfMember(key.getName()).stream().filter(event -> event.hasMember(key)).toList()
+                : List.of();
         members.remove(key);
+        changedMemberNames.add(key.getName());
+        updateMemberInRosters(key, null);
+
+        recordEdit(() -> {
+            members.add(index, key);
+            changedMemberNames.add(key.getName());
+            rosterEvents.forEach(event -> addToRoster(event, key));
+        }, () -> removeMember(key));
     }
 
     //// event-level operations
@@ -117,12 +218,72 @@ public class ClubBook implements ReadOnlyClubBook {
         return events.contains(event);
     }
 
+    /**
+     * Returns the names of the members whose names are matched by any of the {@code keywords}.
+     */
+    public Set<Name> findMemberNamesContainingAnyOf(List<String> keywords) {
+        return members.findNamesContainingAnyOf(keywords);
+    }
+
+    /**
+     * Returns the names of the members with the given {@code phone}.
+     */
+    public Set<Name> findMemberNamesWithPhone(Phone phone) {
+        return members.findNamesWithPhone(phone);
+    }
+
+    /**
+     * Returns the names of the members with the given {@code email}.
+     */
+    public Set<Name> findMemberNamesWithEmail(Email email) {
+        return members.findNamesWithEmail(email);
+    }
+
+    /**
+     * Returns the names of the members with the given member {@code role}.
+     */
+    public Set<Name> findMemberNamesWithRole(MemberRole role) {
+        return members.findNamesWithRole(role);
+    }
+
+    /**
+     * Returns the event in the club book whose name is equivalent to {@code name}, if any.
+     */
+    public Optional<Event> findEvent(Name name) {
+        requireNonNull(name);
+        return events.findByName(name);
+    }
+
+    /**
+     * Returns the names of the events whose names are matched by any of the {@code keywords}.
+     */
+    public Set<Name> findEventNamesContainingAnyOf(List<String> keywords) {
+        return events.findNamesContainingAnyOf(keywords);
+    }
+
+    /**
+     * Returns the events in the club book that take place at any time from {@code start} to {@code end} inclusive,
+     * in order of their start.
+     */
+    public List<Event> findEventsBetween(DateTime start, DateTime end) {
+        return events.findOverlapping(start, end);
+    }
+
     /**
      * Adds an event to the club book.
      * The event must not already exist in the club book.
      */
     public void addEvent(Event e) {
         events.add(e);
+        changedEventNames.add(e.getName());
+        indexRoster(e);
+        recordEdit(() -> {
+            removeRolesInEvent(e);
+            removeEvent(e);
+        }, () -> {
+            restoreRolesInEvent(e);
+            addEvent(e);
+        });
     }
 
     /**
@@ -130,7 +291,20 @@ public class ClubBook implements ReadOnlyClubBook {
      * {@code key} must exist in the club book.
      */
     public void removeEvent(Event key) {
+        // where the event was is only needed to undo its removal
+        int index = isRecordingEdits() ? events.indexOf(key) : -1;
         events.remove(key);
+        changedEventNames.add(key.getName());
+        unindexRoster(key);
+        recordEdit(() -> {
+            restoreRolesInEvent(key);
+            events.add(index, key);
+            changedEventNames.add(key.getName());
+            indexRoster(key);
+        }, () -> {
+            removeRolesInEvent(key);
+            removeEvent(key);
+        });
     }
 
     /**
@@ -142,6 +316,344 @@ public class ClubBook implements ReadOnlyClubBook {
         requireNonNull(editedEvent);
 
         events.setEvent(target, editedEvent);
+        changedEventNames.add(target.getName());
+        changedEventNames.add(editedEvent.getName());
+        unindexRoster(target);
+        indexRoster(editedEvent);
+        recordEdit(() -> {
+            moveRolesInEvent(editedEvent, target);
+            setEvent(editedEvent, target);
+        }, () -> {
+            moveRolesInEvent(target, editedEvent);
+            setEvent(target, editedEvent);
+        });
+    }
+
+    //// roster-level operations
+
+    /**
+     * Adds {@code member} to the roster of {@code event}.
+     * {@code event} must exist in the club book.
+     */
+    public void addToRoster(Event event, Member member) {
+        requireAllNonNull(event, member);
+
+        event.addMember(member);
+        changedEventNames.add(event.getName());
+        changedMemberNames.add(member.getName());
+        indexRosterEntry(member.getName(), event);
+
+        Set<EventRole> rolesInEvent = event.getRolesOf(member);
+        recordEdit(() -> {
+            member.removeEvent(event);
+            removeFromRoster(event, member);
+        }, () -> {
+            member.addEventRoles(rolesInEvent);
+            addToRoster(event, member);
+        });
+    }
+
+    /**
+     * Removes {@code member} from the roster of {@code event}.
+     * {@code event} must exist in the club book.
+     */
+    public void removeFromRoster(Event event, Member member) {
+        requireAllNonNull(event, member);
+
+        // the roles of the member may already have been removed, but the event still has them until now
+        Set<EventRole> rolesInEvent = event.getRolesOf(member);
+        event.removeMemberFromRoster(member);
+        changedEventNames.add(event.getName());
+        changedMemberNames.add(member.getName());
+        unindexRosterEntry(member.getName(), event);
+
+        recordEdit(() -> {
+            member.addEventRoles(rolesInEvent);
+            addToRoster(event, member);
+        }, () -> {
+            member.removeEvent(event);
+            removeFromRoster(event, member);
+        });
+    }
+
+    /**
+     * Returns an unmodifiable view of the events whose roster contains a member with the given {@code name}.
+     */
+    public Set<Event> getEventsOfMember(Name name) {
+        requireNonNull(name);
+        return Collections.unmodifiableSet(eventsByMember.getOrDefault(name, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the other events of the member with the given {@code name} that overlap with {@code event},
+     * in order of their start.
+     */
+    public List<Event> findConflictingEvents(Name name, Event event) {
+        requireAllNonNull(name, event);
+        EventTimeIndex timeline = timelinesByMember.get(name);
+        if (timeline == null) {
+            return List.of();
+        }
+
+        return timeline.findOverlapping(event.getFrom(), event.getTo()).stream()
+                .filter(memberEvent -> !memberEvent.isSameEvent(event) && memberEvent.overlapsWith(event))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns every member assigned to two events that overlap, once for each such pair of events.
+     * Conflicts are ordered by the start of the later event, then by the start of the earlier one.
+     */
+    public List<ScheduleConflict> findScheduleConflicts() {
+        List<Event> eventsByStart = new ArrayList<>(events.asUnmodifiableObservableList());
+        eventsByStart.sort(Comparator.comparing(Event::getFrom));
+
+        // Sweeps through the events by start, keeping the events that have not ended yet in order of their start
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        List<Event> ongoingEvents = new ArrayList<>();
+        for (Event event : eventsByStart) {
+            ongoingEvents.removeIf(ongoingEvent -> !ongoingEvent.overlapsWith(event));
+            for (Event ongoingEvent : ongoingEvents) {
+                addConflictsOfSharedMembers(ongoingEvent, event, conflicts);
+            }
+            ongoingEvents.add(event);
+        }
+        return conflicts;
+    }
+
+    private static void addConflictsOfSharedMembers(Event firstEvent, Event secondEvent,
+                                                    List<ScheduleConflict> conflicts) {
+        boolean isFirstRosterSmaller = firstEvent.getRoster().size() <= secondEvent.getRoster().size();
+        Event smallerEvent = isFirstRosterSmaller ? firstEvent : secondEvent;
+        Event largerEvent = isFirstRosterSmaller ? secondEvent : firstEvent;
+        smallerEvent.getRoster().stream()
+                .filter(largerEvent::hasMember)
+                .sorted(Comparator.comparing(member -> member.getName().fullName.toLowerCase()))
+                .forEach(member -> conflicts.add(new ScheduleConflict(member, firstEvent, secondEvent)));
+    }
+
+    //// change tracking
+
+    /**
+     * Returns the changes made to this club book since the last call, and starts tracking changes afresh.
+     * Members and events are reported as updated if they still exist, or as removed otherwise.
+     */
+    public ClubBookChanges pollChanges() {
+        List<Member> updatedMembers = new ArrayList<>();
+        Set<Name> removedMemberNames = new HashSet<>();
+        List<Event> updatedEvents = new ArrayList<>();
+        Set<Name> removedEventNames = new HashSet<>();
+
+        if (!isReset) {
+            for (Name name : changedMemberNames) {
+                members.findByName(name).ifPresentOrElse(updatedMembers::add, () -> removedMemberNames.add(name));
+            }
+            for (Name name : changedEventNames) {
+                events.findByName(name).ifPresentOrElse(updatedEvents::add, () -> removedEventNames.add(name));
+            }
+        }
+
+        ClubBookChanges changes = new ClubBookChanges(isReset, updatedMembers, removedMemberNames,
+                updatedEvents, removedEventNames);
+        changedMemberNames.clear();
+        changedEventNames.clear();
+        isReset = false;
+        return changes;
+    }
+
+    /**
+     * Replaces {@code originalMember} with {@code replacementMember} in the rosters of the events it takes part in.
+     * If {@code replacementMember} is {@code null}, {@code originalMember} is removed from those rosters instead.
+     */
+    private void updateMemberInRosters(Member originalMember, Member replacementMember) {
+        Set<Event> affectedEvents = eventsByMember.remove(originalMember.getName());
+        timelinesByMember.remove(originalMember.getName());
+        if (affectedEvents == null) {
+            return;
+        }
+
+        for (Event event : affectedEvents) {
+            if (!event.hasMember(originalMember)) {
+                // roster holds a different version of this member; leave it and its index entry untouched
+                indexRosterEntry(originalMember.getName(), event);
+                continue;
+            }
+
+            event.removeMemberFromRoster(originalMember);
+            changedEventNames.add(event.getName());
+            if (replacementMember != null) {
+                event.addMember(replacementMember);
+                indexRosterEntry(replacementMember.getName(), event);
+            }
+        }
+    }
+
+    private void rebuildRosterIndex() {
+        eventsByMember.clear();
+        timelinesByMember.clear();
+        for (Event event : events) {
+            indexRoster(event);
+        }
+    }
+
+    private void indexRoster(Event event) {
+        for (Member member : event.getRoster()) {
+            indexRosterEntry(member.getName(), event);
+        }
+    }
+
+    private void unindexRoster(Event event) {
+        for (Member member : event.getRoster()) {
+            // the event roles of the roster's members change along with the event
+            changedMemberNames.add(member.getName());
+            unindexRosterEntry(member.getName(), event);
+        }
+    }
+
+    private void indexRosterEntry(Name memberName, Event event) {
+        if (eventsByMember.computeIfAbsent(memberName, unused -> new HashSet<>()).add(event)) {
+            timelinesByMember.computeIfAbsent(memberName, unused -> new EventTimeIndex()).add(event);
+        }
+    }
+
+    private void unindexRosterEntry(Name memberName, Event event) {
+        Set<Event> memberEvents = eventsByMember.get(memberName);
+        if (memberEvents == null) {
+            return;
+        }
+
+        if (memberEvents.remove(event)) {
+            timelinesByMember.get(memberName).remove(event);
+        }
+        if (memberEvents.isEmpty()) {
+            eventsByMember.remove(memberName);
+            timelinesByMember.remove(memberName);
+        }
+    }
+
+    //// undo and redo
+
+    /**
+     * Starts recording the changes made to this club book, so that they can be collected by {@link #pollEdit()}.
+     */
+    void startRecordingEdits() {
+        pendingEdit = new ClubBookEdit();
+    }
+
+    /**
+     * Returns the changes made to this club book since the last call as a single edit, if there are any,
+     * and starts recording changes afresh.
+     */
+    Optional<ClubBookEdit> pollEdit() {
+        if (!isRecordingEdits() || pendingEdit.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ClubBookEdit edit = pendingEdit;
+        pendingEdit = new ClubBookEdit();
+        return Optional.of(edit);
+    }
+
+    /**
+     * Reverses {@code edit}, which must be the latest edit made to this club book that has not been undone.
+     */
+    void undo(ClubBookEdit edit) {
+        replay(edit::undo);
+    }
+
+    /**
+     * Repeats {@code edit}, which must be the latest edit to this club book that has been undone.
+     */
+    void redo(ClubBookEdit edit) {
+        replay(edit::redo);
+    }
+
+    private void replay(Runnable replayAction) {
+        isReplayingEdit = true;
+        try {
+            replayAction.run();
+        } finally {
+            isReplayingEdit = false;
+        }
+    }
+
+    private boolean isRecordingEdits() {
+        return pendingEdit != null && !isReplayingEdit;
+    }
+
+    private void recordEdit(Runnable undoAction, Runnable redoAction) {
+        if (isRecordingEdits()) {
+            pendingEdit.add(undoAction, redoAction);
+        }
+    }
+
+    /**
+     * Returns the roles held by {@code member} in each of the events whose roster it is in, as last seen by the events.
+     */
+    private Map<Event, Set<EventRole>> getRolesInEvents(Member member) {
+        Map<Event, Set<EventRole>> rolesInEvents = new HashMap<>();
+        for (Event event : getEventsOfMember(member.getName())) {
+            rolesInEvents.put(event, event.getRolesOf(member));
+        }
+        return rolesInEvents;
+    }
+
+    /**
+     * Gives {@code member} the roles in {@code rolesInEvents} for each of the events there, in place of its current
+     * roles in those events.
+     */
+    private void setRolesInEvents(Member member, Map<Event, Set<EventRole>> rolesInEvents) {
+        rolesInEvents.forEach((event, roles) -> {
+            member.removeEvent(event);
+            member.addEventRoles(roles);
+        });
+        updateRolesOfMember(member);
+    }
+
+    /**
+     * Updates the roles held in the events whose rosters {@code member} is in to match its current event roles,
+     * which have been changed in place.
+     */
+    private void updateRolesOfMember(Member member) {
+        // replaced with itself, so that the observers of the member list see the change
+        members.setMember(member, member);
+        changedMemberNames.add(member.getName());
+        for (Event event : eventsByMember.getOrDefault(member.getName(), Collections.emptySet())) {
+            event.updateRolesOf(member);
+            changedEventNames.add(event.getName());
+        }
+    }
+
+    /**
+     * Removes the roles that the members in the roster of {@code event} hold in it from the members.
+     */
+    private void removeRolesInEvent(Event event) {
+        for (Member member : event.getRoster()) {
+            member.removeEvent(event);
+            changedMemberNames.add(member.getName());
+        }
+    }
+
+    /**
+     * Gives the members in the roster of {@code event} back the roles they hold in it.
+     */
+    private void restoreRolesInEvent(Event event) {
+        for (Member member : event.getRoster()) {
+            member.addEventRoles(event.getRolesOf(member));
+            changedMemberNames.add(member.getName());
+        }
+    }
+
+    /**
+     * Replaces the roles that the members in the roster of {@code toEvent} hold in {@code fromEvent} with the roles
+     * they hold in {@code toEvent}.
+     */
+    private void moveRolesInEvent(Event fromEvent, Event toEvent) {
+        for (Member member : toEvent.getRoster()) {
+            member.removeEvent(fromEvent);
+            member.addEventRoles(toEvent.getRolesOf(member));
+            changedMemberNames.add(member.getName());
+        }
     }
 
     //// util methods
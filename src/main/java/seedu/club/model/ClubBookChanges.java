@@ -0,0 +1,86 @@
+package seedu.club.model;
+
+import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import seedu.club.commons.util.ToStringBuilder;
+import seedu.club.model.event.Event;
+import seedu.club.model.member.Member;
+import seedu.club.model.name.Name;
+
+/**
+ * Describes the members and events of a {@code ClubBook} that were added, edited or removed since its changes
+ * were last collected. Members and events that still exist are given in their current state, while removed ones
+ * are given by name.
+ */
+public class ClubBookChanges {
+
+    /** No changes at all. */
+    public static final ClubBookChanges NONE = new ClubBookChanges(false, List.of(), Set.of(), List.of(), Set.of());
+
+    private final boolean isReset;
+    private final List<Member> updatedMembers;
+    private final Set<Name> removedMemberNames;
+    private final List<Event> updatedEvents;
+    private final Set<Name> removedEventNames;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param isReset true if the whole club book was replaced, in which case the other fields may be incomplete.
+     */
+    public ClubBookChanges(boolean isReset, List<Member> updatedMembers, Set<Name> removedMemberNames,
+                           List<Event> updatedEvents, Set<Name> removedEventNames) {
+        requireAllNonNull(updatedMembers, removedMemberNames, updatedEvents, removedEventNames);
+        this.isReset = isReset;
+        this.updatedMembers = updatedMembers;
+        this.removedMemberNames = removedMemberNames;
+        this.updatedEvents = updatedEvents;
+        this.removedEventNames = removedEventNames;
+    }
+
+    /**
+     * Returns true if the whole club book was replaced, so that the changes cannot be applied piecewise.
+     */
+    public boolean isReset() {
+        return isReset;
+    }
+
+    /**
+     * Returns true if nothing in the club book has changed.
+     */
+    public boolean isEmpty() {
+        return !isReset && updatedMembers.isEmpty() && removedMemberNames.isEmpty()
+                && updatedEvents.isEmpty() && removedEventNames.isEmpty();
+    }
+
+    public List<Member> getUpdatedMembers() {
+        return Collections.unmodifiableList(updatedMembers);
+    }
+
+    public Set<Name> getRemovedMemberNames() {
+        return Collections.unmodifiableSet(removedMemberNames);
+    }
+
+    public List<Event> getUpdatedEvents() {
+        return Collections.unmodifiableList(updatedEvents);
+    }
+
+    public Set<Name> getRemovedEventNames() {
+        return Collections.unmodifiableSet(removedEventNames);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isReset", isReset)
+                .add("updatedMembers", updatedMembers)
+                .add("removedMemberNames", removedMemberNames)
+                .add("updatedEvents", updatedEvents)
+                .add("removedEventNames", removedEventNames)
+                .toString();
+    }
+}
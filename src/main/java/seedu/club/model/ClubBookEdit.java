@@ -0,0 +1,44 @@
+package seedu.club.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a change made to a {@code ClubBook}, such as by a single command, that can be undone and redone.
+ * The change is made up of the primitive changes recorded by the club book in the order they were made, each stored
+ * as the actions that reverse and repeat it. Only the entities involved are referenced, so the memory used by an edit
+ * is proportional to the size of the change rather than the size of the club book.
+ */
+class ClubBookEdit {
+
+    private final List<Runnable> undoActions = new ArrayList<>();
+    private final List<Runnable> redoActions = new ArrayList<>();
+
+    /**
+     * Adds a primitive change to this edit, reversed by {@code undoAction} and repeated by {@code redoAction}.
+     */
+    void add(Runnable undoAction, Runnable redoAction) {
+        undoActions.add(undoAction);
+        redoActions.add(redoAction);
+    }
+
+    boolean isEmpty() {
+        return undoActions.isEmpty();
+    }
+
+    /**
+     * Reverses the primitive changes in this edit, starting from the latest.
+     */
+    void undo() {
+        for (int i = undoActions.size() - 1; i >= 0; i--) {
+            undoActions.get(i).run();
+        }
+    }
+
+    /**
+     * Repeats the primitive changes in this edit, in the order they were first made.
+     */
+    void redo() {
+        redoActions.forEach(Runnable::run);
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.club.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.club.commons.core.GuiSettings;
+import seedu.club.model.event.DateTime;
 import seedu.club.model.event.Event;
+import seedu.club.model.event.ScheduleConflict;
+import seedu.club.model.member.Email;
 import seedu.club.model.member.Member;
+import seedu.club.model.member.Phone;
 import seedu.club.model.name.Name;
+import seedu.club.model.name.NameKeyword;
+import seedu.club.model.role.EventRole;
+import seedu.club.model.role.MemberRole;
 
 /**
  * The API of the Model component.
@@ -59,13 +69,51 @@ public interface Model {
      */
     ReadOnlyClubBook getClubBook();
 
+    /**
+     * Returns the changes made to the club book since the last call, and starts tracking changes afresh.
+     */
+    ClubBookChanges pollClubBookChanges();
+
+    /**
+     * Saves the changes made to the club book since the last commit as a single step in the undo history,
+     * if there are any, and discards the steps that have been undone.
+     */
+    void commitClubBook();
+
+    /**
+     * Returns true if there is a committed step in the undo history that can be undone.
+     */
+    boolean canUndoClubBook();
+
+    /**
+     * Returns true if there is an undone step in the undo history that can be redone.
+     */
+    boolean canRedoClubBook();
+
+    /**
+     * Reverses the latest committed step in the undo history that has not been undone.
+     * There must be such a step, as declared by {@link #canUndoClubBook()}.
+     */
+    void undoClubBook();
+
+    /**
+     * Repeats the latest step in the undo history that has been undone.
+     * There must be such a step, as declared by {@link #canRedoClubBook()}.
+     */
+    void redoClubBook();
+
+    /**
+     * Reverses the changes made to the club book since the last commit, without adding them to the undo history.
+     */
+    void discardClubBookChanges();
+
     /**
      * Returns true if a member with the same identity as {@code member} exists in the club book.
      */
     boolean hasMember(Member member);
 
     /**
-     * Deletes the given member.
+     * Deletes the given member, removing it from the rosters of the events it takes part in.
      * The member must exist in the club book.
      */
     void deleteMember(Member target);
@@ -77,11 +125,18 @@ public interface Model {
     void addMember(Member member);
 
     /**
-     * Replaces the given member {@code target} with {@code editedMember}.
+     * Replaces the given member {@code target} with {@code editedMember}, in the member list and in event rosters.
      * {@code target} must exist in the club book.
      * The member identity of {@code editedMember} must not be the same as another existing member in the club book.
      */
     void setMember(Member target, Member editedMember);
+
+    /**
+     * Replaces the event roles of the given member with {@code eventRoles}, and updates the roles held in its events.
+     * {@code member} must exist in the club book.
+     */
+    void setMemberEventRoles(Member member, Set<EventRole> eventRoles);
+
     /**
      * Returns an unmodifiable view of the unfiltered member list
      */
@@ -111,6 +166,18 @@ public interface Model {
      */
     void setEvent(Event target, Event editedEvent);
 
+    /**
+     * Adds {@code member} to the roster of {@code event}.
+     * {@code event} must exist in the club book.
+     */
+    void addToRoster(Event event, Member member);
+
+    /**
+     * Removes {@code member} from the roster of {@code event}.
+     * {@code event} must exist in the club book.
+     */
+    void removeFromRoster(Event event, Member member);
+
     /**
      * Returns an unmodifiable view of the filtered member list
      */
@@ -123,6 +190,19 @@ public interface Model {
      */
     void updateFilteredMemberList(Predicate<Member> predicate);
 
+    /**
+     * Holds back updates to the predicates of the filtered member and event lists until
+     * {@link #applyDeferredFilteredListUpdates()} is called, so that only the latest predicate of each list is applied.
+     * The filtered lists returned in the meantime are still brought up to date before being returned.
+     */
+    void deferFilteredListUpdates();
+
+    /**
+     * Applies the latest updates held back since {@link #deferFilteredListUpdates()} was called,
+     * and stops holding back further updates.
+     */
+    void applyDeferredFilteredListUpdates();
+
     /**
      * Returns an unmodifiable view of the filtered event list
      */
@@ -147,14 +227,59 @@ public interface Model {
     void updateMemberAndEventList(Event eventToBeDisplayed);
 
     /**
-     * Returns index if there exists a member with the same name as {@code name} and -1 otherwise
+     * Returns the member with the same name as {@code name}, or {@code Optional.empty()} if there is none.
+     */
+    Optional<Member> findMemberByName(Name name);
+
+    /**
+     * Returns the names of the members whose names are matched by any of the {@code keywords}.
+     * Keywords may match whole words, prefixes or words with typos, as described in {@link NameKeyword}.
+     */
+    Set<Name> findMemberNamesContainingAnyOf(List<String> keywords);
+
+    /**
+     * Returns the names of the members with the given {@code phone}.
+     */
+    Set<Name> findMemberNamesWithPhone(Phone phone);
+
+    /**
+     * Returns the names of the members with the given {@code email}.
+     */
+    Set<Name> findMemberNamesWithEmail(Email email);
+
+    /**
+     * Returns the names of the members with the given member {@code role}.
+     */
+    Set<Name> findMemberNamesWithRole(MemberRole role);
+
+    /**
+     * Returns the event with the same name as {@code name}, or {@code Optional.empty()} if there is none.
+     */
+    Optional<Event> findEventByName(Name name);
+
+    /**
+     * Returns the events that take place at any time from {@code start} to {@code end} inclusive,
+     * in order of their start.
+     * @throws NullPointerException if {@code start} or {@code end} is null.
+     */
+    List<Event> findEventsBetween(DateTime start, DateTime end);
+
+    /**
+     * Returns the names of the events whose names are matched by any of the {@code keywords}.
+     * Keywords may match whole words, prefixes or words with typos, as described in {@link NameKeyword}.
+     */
+    Set<Name> findEventNamesContainingAnyOf(List<String> keywords);
+
+    /**
+     * Returns the other events that {@code member} is assigned to which overlap with {@code event},
+     * in order of their start.
      */
-    int memberNameIndex(Name name);
+    List<Event> findConflictingEvents(Member member, Event event);
 
     /**
-     * Returns index if there exists an event with the same name as {@code name} and -1 otherwise
+     * Returns every member assigned to two events that overlap, once for each such pair of events.
      */
-    int eventNameIndex(Name name);
+    List<ScheduleConflict> findScheduleConflicts();
 
     /**
      * Returns the current state of the ClubBook
@@ -4,16 +4,28 @@ import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.club.commons.core.GuiSettings;
 import seedu.club.commons.core.LogsCenter;
+import seedu.club.model.event.DateTime;
 import seedu.club.model.event.Event;
+import seedu.club.model.event.ScheduleConflict;
+import seedu.club.model.member.Email;
 import seedu.club.model.member.Member;
+import seedu.club.model.member.Phone;
 import seedu.club.model.name.Name;
+import seedu.club.model.role.EventRole;
+import seedu.club.model.role.MemberRole;
 
 /**
  * Represents the in-memory model of the club book data.
@@ -21,11 +33,21 @@ import seedu.club.model.name.Name;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** The number of steps kept in the undo history, beyond which the oldest steps are forgotten. */
+    static final int MAX_UNDO_HISTORY = 1000;
+
     private final ClubBook clubBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Member> filteredMembers;
     private final FilteredList<Event> filteredEvents;
     private ViewState currentState = ViewState.MEMBER;
+    private final Deque<ClubBookEdit> undoHistory = new ArrayDeque<>();
+    private final Deque<ClubBookEdit> redoHistory = new ArrayDeque<>();
+
+    // The predicates held back while filtered list updates are deferred, or null if there are none to apply
+    private boolean isDeferringFilteredListUpdates;
+    private Predicate<Member> deferredMemberPredicate;
+    private Predicate<Event> deferredEventPredicate;
 
     /**
      * Initializes a ModelManager with the given clubBook and userPrefs.
@@ -36,6 +58,7 @@ public class ModelManager implements Model {
         logger.fine("Initializing with club book: " + clubBook + " and user prefs " + userPrefs);
 
         this.clubBook = new ClubBook(clubBook);
+        this.clubBook.startRecordingEdits();
         this.userPrefs = new UserPrefs(userPrefs);
         filteredMembers = new FilteredList<>(this.clubBook.getMemberList());
         filteredEvents = new FilteredList<>(this.clubBook.getEventList());
@@ -92,6 +115,60 @@ public class ModelManager implements Model {
         return clubBook;
     }
 
+    @Override
+    public ClubBookChanges pollClubBookChanges() {
+        return clubBook.pollChanges();
+    }
+
+    @Override
+    public void commitClubBook() {
+        clubBook.pollEdit().ifPresent(edit -> {
+            undoHistory.push(edit);
+            if (undoHistory.size() > MAX_UNDO_HISTORY) {
+                undoHistory.removeLast();
+            }
+            redoHistory.clear();
+        });
+    }
+
+    @Override
+    public boolean canUndoClubBook() {
+        return !undoHistory.isEmpty();
+    }
+
+    @Override
+    public boolean canRedoClubBook() {
+        return !redoHistory.isEmpty();
+    }
+
+    @Override
+    public void undoClubBook() {
+        // changes that have yet to be committed would otherwise be left out of the history
+        commitClubBook();
+        ClubBookEdit edit = undoHistory.pop();
+        clubBook.undo(edit);
+        redoHistory.push(edit);
+        showAllMembersAndEvents();
+    }
+
+    @Override
+    public void redoClubBook() {
+        ClubBookEdit edit = redoHistory.pop();
+        clubBook.redo(edit);
+        undoHistory.push(edit);
+        showAllMembersAndEvents();
+    }
+
+    @Override
+    public void discardClubBookChanges() {
+        clubBook.pollEdit().ifPresent(clubBook::undo);
+    }
+
+    private void showAllMembersAndEvents() {
+        updateFilteredMemberList(PREDICATE_SHOW_ALL_MEMBERS);
+        updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+    }
+
     //=========== Member =============================================================
     @Override
     public boolean hasMember(Member member) {
@@ -118,14 +195,16 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public int memberNameIndex(Name name) {
-        ObservableList<Member> memberList = clubBook.getMemberList();
-        for (int i = 0; i < memberList.size(); i++) {
-            if (memberList.get(i).getName().equals(name)) {
-                return i;
-            }
-        }
-        return -1;
+    public void setMemberEventRoles(Member member, Set<EventRole> eventRoles) {
+        requireAllNonNull(member, eventRoles);
+
+        clubBook.setMemberEventRoles(member, eventRoles);
+    }
+
+    @Override
+    public Optional<Member> findMemberByName(Name name) {
+        requireNonNull(name);
+        return clubBook.findMember(name);
     }
 
     //=========== Full Member List Accessors =============================================================
@@ -147,15 +226,42 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Member> getFilteredMemberList() {
+        applyDeferredPredicates();
         return filteredMembers;
     }
 
     @Override
     public void updateFilteredMemberList(Predicate<Member> predicate) {
         requireNonNull(predicate);
+        if (isDeferringFilteredListUpdates) {
+            deferredMemberPredicate = predicate;
+            return;
+        }
         filteredMembers.setPredicate(predicate);
     }
 
+    @Override
+    public void deferFilteredListUpdates() {
+        isDeferringFilteredListUpdates = true;
+    }
+
+    @Override
+    public void applyDeferredFilteredListUpdates() {
+        applyDeferredPredicates();
+        isDeferringFilteredListUpdates = false;
+    }
+
+    private void applyDeferredPredicates() {
+        if (deferredMemberPredicate != null) {
+            filteredMembers.setPredicate(deferredMemberPredicate);
+            deferredMemberPredicate = null;
+        }
+        if (deferredEventPredicate != null) {
+            filteredEvents.setPredicate(deferredEventPredicate);
+            deferredEventPredicate = null;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -170,8 +276,25 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return clubBook.equals(otherModelManager.clubBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredMembers.equals(otherModelManager.filteredMembers)
-                && filteredEvents.equals(otherModelManager.filteredEvents);
+                && getEffectiveFilteredMembers().equals(otherModelManager.getEffectiveFilteredMembers())
+                && getEffectiveFilteredEvents().equals(otherModelManager.getEffectiveFilteredEvents());
+    }
+
+    // The filtered lists as they will be once any deferred predicates are applied, without applying them, so that
+    // comparing models does not change them
+    private List<Member> getEffectiveFilteredMembers() {
+        return getEffectiveFilteredList(filteredMembers, deferredMemberPredicate);
+    }
+
+    private List<Event> getEffectiveFilteredEvents() {
+        return getEffectiveFilteredList(filteredEvents, deferredEventPredicate);
+    }
+
+    private static <T> List<T> getEffectiveFilteredList(FilteredList<T> filteredList, Predicate<T> deferredPredicate) {
+        if (deferredPredicate == null) {
+            return filteredList;
+        }
+        return filteredList.getSource().stream().filter(deferredPredicate).collect(Collectors.toList());
     }
 
     //=========== Event =============================================================
@@ -194,14 +317,56 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public int eventNameIndex(Name name) {
-        ObservableList<Event> eventList = clubBook.getEventList();
-        for (int i = 0; i < eventList.size(); i++) {
-            if (eventList.get(i).getName().equals(name)) {
-                return i;
-            }
-        }
-        return -1;
+    public Set<Name> findMemberNamesContainingAnyOf(List<String> keywords) {
+        requireNonNull(keywords);
+        return clubBook.findMemberNamesContainingAnyOf(keywords);
+    }
+
+    @Override
+    public Set<Name> findMemberNamesWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return clubBook.findMemberNamesWithPhone(phone);
+    }
+
+    @Override
+    public Set<Name> findMemberNamesWithEmail(Email email) {
+        requireNonNull(email);
+        return clubBook.findMemberNamesWithEmail(email);
+    }
+
+    @Override
+    public Set<Name> findMemberNamesWithRole(MemberRole role) {
+        requireNonNull(role);
+        return clubBook.findMemberNamesWithRole(role);
+    }
+
+    @Override
+    public Set<Name> findEventNamesContainingAnyOf(List<String> keywords) {
+        requireNonNull(keywords);
+        return clubBook.findEventNamesContainingAnyOf(keywords);
+    }
+
+    @Override
+    public Optional<Event> findEventByName(Name name) {
+        requireNonNull(name);
+        return clubBook.findEvent(name);
+    }
+
+    @Override
+    public List<Event> findEventsBetween(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        return clubBook.findEventsBetween(start, end);
+    }
+
+    @Override
+    public List<Event> findConflictingEvents(Member member, Event event) {
+        requireAllNonNull(member, event);
+        return clubBook.findConflictingEvents(member.getName(), event);
+    }
+
+    @Override
+    public List<ScheduleConflict> findScheduleConflicts() {
+        return clubBook.findScheduleConflicts();
     }
 
     @Override
@@ -211,6 +376,20 @@ public class ModelManager implements Model {
         clubBook.setEvent(target, editedEvent);
     }
 
+    @Override
+    public void addToRoster(Event event, Member member) {
+        requireAllNonNull(event, member);
+
+        clubBook.addToRoster(event, member);
+    }
+
+    @Override
+    public void removeFromRoster(Event event, Member member) {
+        requireAllNonNull(event, member);
+
+        clubBook.removeFromRoster(event, member);
+    }
+
 
     //=========== Full Event List Accessors =============================================================
 
@@ -231,12 +410,17 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Event> getFilteredEventList() {
+        applyDeferredPredicates();
         return filteredEvents;
     }
 
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
+        if (isDeferringFilteredListUpdates) {
+            deferredEventPredicate = predicate;
+            return;
+        }
         filteredEvents.setPredicate(predicate);
     }
 
@@ -8,6 +8,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.regex.Pattern;
 
 /**
  * Represents an Event's start or end date and time in the club book.
@@ -16,7 +17,7 @@ import java.time.format.ResolverStyle;
  * Guarantees: immutable; is valid as declared in {@link #isValidDateTime(String)}
  * @see java.time.LocalDateTime
  */
-public class DateTime {
+public class DateTime implements Comparable<DateTime> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Date and time should be in the format `DDMMYY HHMM` in 24-hour format";
@@ -29,7 +30,11 @@ public class DateTime {
             .toFormatter()
             .withResolverStyle(ResolverStyle.STRICT); // Without this, Java adjusts invalid dates to nearest valid one.
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("d MMM yyyy h:mma");
+
     public final String value;
+    private final LocalDateTime dateTime;
 
     /**
      * Constructs a {@code DateTime}.
@@ -41,13 +46,14 @@ public class DateTime {
         checkArgument(isValidFormat(datetime), MESSAGE_CONSTRAINTS);
         checkArgument(isValidDateTime(datetime), MESSAGE_INVALID_VALUES);
         value = datetime;
+        dateTime = LocalDateTime.parse(datetime, DATETIME_FORMAT);
     }
 
     /**
      * Returns true if a given string has a valid date and time format.
      */
     public static boolean isValidFormat(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -72,16 +78,24 @@ public class DateTime {
             return true;
         }
 
-        LocalDateTime thisDateTime = LocalDateTime.parse(value, DATETIME_FORMAT);
-        LocalDateTime otherDateTime = LocalDateTime.parse(other.value, DATETIME_FORMAT);
+        return dateTime.isBefore(other.dateTime);
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
 
-        return thisDateTime.isBefore(otherDateTime);
+    /**
+     * Orders date times chronologically.
+     */
+    @Override
+    public int compareTo(DateTime other) {
+        return dateTime.compareTo(other.dateTime);
     }
 
     @Override
     public String toString() {
-        return LocalDateTime.parse(value, DATETIME_FORMAT)
-                .format(DateTimeFormatter.ofPattern("d MMM yyyy h:mma"));
+        return dateTime.format(DISPLAY_FORMAT);
     }
 
     @Override
@@ -4,11 +4,15 @@ import static seedu.club.commons.util.AppUtil.checkArgument;
 import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
-import javafx.collections.ObservableList;
 import seedu.club.commons.util.ToStringBuilder;
 import seedu.club.model.member.Member;
 import seedu.club.model.name.Name;
@@ -31,6 +35,8 @@ public class Event extends NamedEntity {
 
     public static final String VALIDATION_REGEX = "^[^/]+$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     // Identity fields
     private final DateTime from;
     private final DateTime to;
@@ -40,6 +46,12 @@ public class Event extends NamedEntity {
     private final Set<EventRole> roles = new HashSet<>();
     private final Set<Member> roster = new HashSet<>();
 
+    /*
+     * The members of the roster by the roles they hold in this event, including the participant role of members
+     * without any other role. Kept in step with the roster and the event roles of its members.
+     */
+    private final Map<EventRole, Map<Name, Member>> membersByRole = new HashMap<>();
+
     /**
      * Creates an Event containing no participating members.
      * Every field must be present and not null.
@@ -80,7 +92,7 @@ public class Event extends NamedEntity {
         this.to = to;
         this.detail = detail;
         this.roles.addAll(roles);
-        this.roster.addAll(roster);
+        roster.forEach(this::addMember);
     }
 
     public DateTime getFrom() {
@@ -111,11 +123,91 @@ public class Event extends NamedEntity {
         return Collections.unmodifiableSet(roster);
     }
 
+    /**
+     * Returns an immutable set of the members in the roster holding {@code role} in this event.
+     */
+    public Set<Member> getMembersWithRole(EventRole role) {
+        Map<Name, Member> roleHolders = membersByRole.get(role);
+        return roleHolders == null ? Set.of() : Set.copyOf(roleHolders.values());
+    }
+
+    /**
+     * Returns the number of members in the roster holding {@code role} in this event.
+     */
+    public int countMembersWithRole(EventRole role) {
+        Map<Name, Member> roleHolders = membersByRole.get(role);
+        return roleHolders == null ? 0 : roleHolders.size();
+    }
+
+    /**
+     * Returns true if the member in the roster with the same identity as {@code member} holds {@code role}.
+     */
+    public boolean hasMemberWithRole(Member member, EventRole role) {
+        Map<Name, Member> roleHolders = membersByRole.get(role);
+        return roleHolders != null && roleHolders.containsKey(member.getName());
+    }
+
+    /**
+     * Returns the roles held in this event by the member in the roster with the same identity as {@code member}.
+     */
+    public Set<EventRole> getRolesOf(Member member) {
+        Set<EventRole> memberRoles = new HashSet<>();
+        membersByRole.forEach((role, roleHolders) -> {
+            if (roleHolders.containsKey(member.getName())) {
+                memberRoles.add(role);
+            }
+        });
+        return memberRoles;
+    }
+
+    /**
+     * Returns the roles of this event that no member in the roster holds, in order of their names.
+     */
+    public List<EventRole> getVacantRoles() {
+        return roles.stream()
+                .filter(role -> countMembersWithRole(role) == 0)
+                .sorted(Comparator.comparing(role -> role.roleName.toLowerCase()))
+                .toList();
+    }
+
     /**
      * Removes specified member from the event's roster
      */
     public void removeMemberFromRoster(Member member) {
         roster.removeIf(m -> m.isSameMember(member));
+        unindexRoles(member.getName());
+    }
+
+    /**
+     * Brings the roles held by {@code member} in this event up to date with its event roles,
+     * after they are changed for a member already in the roster.
+     */
+    public void updateRolesOf(Member member) {
+        unindexRoles(member.getName());
+        if (hasMember(member)) {
+            indexRoles(member);
+        }
+    }
+
+    private void indexRoles(Member member) {
+        for (EventRole role : member.getEventRoles()) {
+            if (role.getAssignedTo().equals(name)) {
+                membersByRole.computeIfAbsent(role, unused -> new HashMap<>()).put(member.getName(), member);
+            }
+        }
+    }
+
+    private void unindexRoles(Name memberName) {
+        membersByRole.values().removeIf(roleHolders -> roleHolders.remove(memberName) != null
+                && roleHolders.isEmpty());
+    }
+
+    /**
+     * Returns true if this event and {@code otherEvent} take place at the same time for any period.
+     * Events where one ends exactly when the other starts do not overlap.
+     */
+    public boolean overlapsWith(Event otherEvent) {
+        return from.isBefore(otherEvent.to) && otherEvent.from.isBefore(to);
     }
 
     /**
@@ -126,14 +218,15 @@ public class Event extends NamedEntity {
     }
 
     /**
-     * Adds the given member to the event roster.
+     * Adds the given member to the event roster, holding the event roles it has for this event.
      */
     public void addMember(Member member) {
         roster.add(member);
+        indexRoles(member);
     }
 
     public static boolean isValidDetails(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -149,37 +242,6 @@ public class Event extends NamedEntity {
                 && otherEvent.getName().equals(getName());
     }
 
-    /**
-     * Updates a member reference in all event rosters when it is deleted or edited
-     * in EASync's {@code UniqueMemberList}.
-     * @param originalMember The member to be replaced or removed.
-     * @param replacementMember The new member to replace with. If {@code null}, the original member is removed.
-     */
-    public static void updateMemberInAllEvents(ObservableList<Event> eventList,
-                                               Member originalMember, Member replacementMember) {
-        for (Event event : eventList) {
-            event.updateMemberInEvent(originalMember, replacementMember);
-        }
-    }
-
-    /**
-     * Updates a member reference in a single event roster.
-     *
-     * @param originalMember    The member to be replaced or removed
-     * @param replacementMember the new member to replace with; if {@code null}, the original member is removed
-     */
-    private void updateMemberInEvent(Member originalMember, Member replacementMember) {
-        if (!hasMember(originalMember)) {
-            return;
-        }
-
-        removeMemberFromRoster(originalMember);
-
-        if (replacementMember != null) {
-            addMember(replacementMember);
-        }
-    }
-
     /**
      * Updates the assigned event name in event roles under roles list to new name
      *
@@ -0,0 +1,187 @@
+package seedu.club.model.event;
+
+import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Indexes events by the period they take place in, so that the events overlapping a given period can be found
+ * without checking every event.
+ *
+ * Events are kept in a binary search tree ordered by their start, where every node also records the latest end
+ * among the events below it. A search skips every subtree that ends before the period or starts after it.
+ * The tree is kept balanced as a treap, by giving every node a random priority.
+ */
+public class EventTimeIndex {
+
+    // Events are unique by name, so this orders any two different events in the index
+    private static final Comparator<Event> START_ORDER = Comparator.comparing(Event::getFrom)
+            .thenComparing(event -> event.getName().fullName.toLowerCase());
+    // Shared by every index, as ClubBook keeps one index for each member
+    private static final Random RANDOM = new Random();
+
+    private Node root;
+
+    /**
+     * Adds {@code event} to the index.
+     */
+    public void add(Event event) {
+        root = insert(root, new Node(event, RANDOM.nextInt()));
+    }
+
+    /**
+     * Removes {@code event} from the index, if it is indexed.
+     */
+    public void remove(Event event) {
+        root = delete(root, event);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code events}.
+     */
+    public void setEvents(List<Event> events) {
+        root = null;
+        events.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed events that take place at any time from {@code start} to {@code end} inclusive,
+     * in order of their start.
+     */
+    public List<Event> findOverlapping(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        List<Event> overlappingEvents = new ArrayList<>();
+        collectOverlapping(root, start, end, overlappingEvents);
+        return overlappingEvents;
+    }
+
+    private static void collectOverlapping(Node node, DateTime start, DateTime end, List<Event> result) {
+        if (node == null || node.latestEnd.compareTo(start) < 0) {
+            return;
+        }
+
+        collectOverlapping(node.left, start, end, result);
+        if (node.event.getFrom().compareTo(end) > 0) {
+            // This event and every event to its right start after the period
+            return;
+        }
+        if (node.event.getTo().compareTo(start) >= 0) {
+            result.add(node.event);
+        }
+        collectOverlapping(node.right, start, end, result);
+    }
+
+    private static Node insert(Node node, Node toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+
+        if (toInsert.priority > node.priority) {
+            Node[] halves = split(node, toInsert.event);
+            toInsert.left = halves[0];
+            toInsert.right = halves[1];
+            toInsert.update();
+            return toInsert;
+        }
+
+        if (START_ORDER.compare(toInsert.event, node.event) < 0) {
+            node.left = insert(node.left, toInsert);
+        } else {
+            node.right = insert(node.right, toInsert);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node delete(Node node, Event event) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = START_ORDER.compare(event, node.event);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+
+        if (comparison < 0) {
+            node.left = delete(node.left, event);
+        } else {
+            node.right = delete(node.right, event);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Splits the subtree under {@code node} into the events ordered before {@code event} and the rest.
+     */
+    private static Node[] split(Node node, Event event) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+
+        if (START_ORDER.compare(node.event, event) < 0) {
+            Node[] halves = split(node.right, event);
+            node.right = halves[0];
+            node.update();
+            return new Node[] {node, halves[1]};
+        }
+
+        Node[] halves = split(node.left, event);
+        node.left = halves[1];
+        node.update();
+        return new Node[] {halves[0], node};
+    }
+
+    /**
+     * Merges two subtrees, where every event in {@code left} is ordered before every event in {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static class Node {
+        private final Event event;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private DateTime latestEnd;
+
+        Node(Event event, int priority) {
+            this.event = event;
+            this.priority = priority;
+            this.latestEnd = event.getTo();
+        }
+
+        /**
+         * Recomputes the latest end among the events in this subtree from its children.
+         */
+        void update() {
+            latestEnd = event.getTo();
+            if (left != null && left.latestEnd.compareTo(latestEnd) > 0) {
+                latestEnd = left.latestEnd;
+            }
+            if (right != null && right.latestEnd.compareTo(latestEnd) > 0) {
+                latestEnd = right.latestEnd;
+            }
+        }
+    }
+}
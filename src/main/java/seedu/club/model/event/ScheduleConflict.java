@@ -0,0 +1,74 @@
+package seedu.club.model.event;
+
+import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.club.commons.util.ToStringBuilder;
+import seedu.club.model.member.Member;
+
+/**
+ * Represents a member who is assigned to two events that overlap in time.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class ScheduleConflict {
+
+    private final Member member;
+    private final Event firstEvent;
+    private final Event secondEvent;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param firstEvent the event that starts first, or either event if they start at the same time.
+     */
+    public ScheduleConflict(Member member, Event firstEvent, Event secondEvent) {
+        requireAllNonNull(member, firstEvent, secondEvent);
+        this.member = member;
+        this.firstEvent = firstEvent;
+        this.secondEvent = secondEvent;
+    }
+
+    public Member getMember() {
+        return member;
+    }
+
+    public Event getFirstEvent() {
+        return firstEvent;
+    }
+
+    public Event getSecondEvent() {
+        return secondEvent;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduleConflict)) {
+            return false;
+        }
+
+        ScheduleConflict otherConflict = (ScheduleConflict) other;
+        return member.equals(otherConflict.member)
+                && firstEvent.equals(otherConflict.firstEvent)
+                && secondEvent.equals(otherConflict.secondEvent);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(member, firstEvent, secondEvent);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("member", member.getName())
+                .add("firstEvent", firstEvent.getName())
+                .add("secondEvent", secondEvent.getName())
+                .toString();
+    }
+}
@@ -1,15 +1,24 @@
 package seedu.club.model.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.club.commons.util.CollectionUtil.findDuplicateKeys;
 import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.club.model.event.exceptions.DuplicateEventException;
 import seedu.club.model.event.exceptions.EventNotFoundException;
+import seedu.club.model.name.Name;
+import seedu.club.model.name.NameKeyword;
+import seedu.club.model.name.NamePositionIndex;
+import seedu.club.model.name.NameTokenIndex;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +27,11 @@ import seedu.club.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of an event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
+ * Events are additionally indexed by {@code Name}, which compares case-insensitively, so that identity checks and
+ * lookups by name do not require a scan of the whole list. They are also indexed by their positions in the list, by the
+ * words in their names and by the period they take place in, so that replacing or removing an event, keyword searches
+ * and searches by date do not require a scan either.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
@@ -28,13 +42,44 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Event> nameIndex = new HashMap<>();
+    private final NamePositionIndex<Event> positionIndex = new NamePositionIndex<>(internalList, Event::getName);
+    private final NameTokenIndex tokenIndex = new NameTokenIndex();
+    private final EventTimeIndex timeIndex = new EventTimeIndex();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the event whose name is equivalent to {@code name}, if any.
+     */
+    public Optional<Event> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(name));
+    }
+
+    /**
+     * Returns the names of the events whose names are matched by any of the {@code keywords}.
+     *
+     * @param keywords valid keywords, as declared in {@link NameKeyword#isValidKeyword(String)}.
+     */
+    public Set<Name> findNamesContainingAnyOf(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return tokenIndex.findNamesContainingAnyOf(keywords);
+    }
+
+    /**
+     * Returns the events that take place at any time from {@code start} to {@code end} inclusive,
+     * in order of their start.
+     */
+    public List<Event> findOverlapping(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        return timeIndex.findOverlapping(start, end);
     }
 
     /**
@@ -42,11 +87,24 @@ public class UniqueEventList implements Iterable<Event> {
      * The event must not already exist in the list.
      */
     public void add(Event toAdd) {
+        requireNonNull(toAdd);
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a event to the list at {@code index}, shifting the events from there onwards back.
+     * The event must not already exist in the list.
+     */
+    public void add(int index, Event toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        positionIndex.added(index);
+        nameIndex.put(toAdd.getName(), toAdd);
+        tokenIndex.add(toAdd.getName());
+        timeIndex.add(toAdd);
     }
 
     /**
@@ -57,7 +115,7 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -67,6 +125,25 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.set(index, editedEvent);
+        positionIndex.replaced(target.getName(), index);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedEvent.getName(), editedEvent);
+        tokenIndex.remove(target.getName());
+        tokenIndex.add(editedEvent.getName());
+        timeIndex.remove(target);
+        timeIndex.add(editedEvent);
+    }
+
+    /**
+     * Returns the position of {@code event} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Event event) {
+        requireNonNull(event);
+        Event indexedEvent = nameIndex.get(event.getName());
+        if (indexedEvent == null || !indexedEvent.equals(event)) {
+            return -1;
+        }
+        return positionIndex.indexOf(event.getName());
     }
 
     /**
@@ -75,14 +152,25 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        internalList.remove(index);
+        positionIndex.removed(toRemove.getName(), index);
+        nameIndex.remove(toRemove.getName());
+        tokenIndex.remove(toRemove.getName());
+        timeIndex.remove(toRemove);
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionIndex.reset();
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        tokenIndex.setNames(nameIndex.keySet());
+        timeIndex.setEvents(internalList);
     }
 
     /**
@@ -91,11 +179,19 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
+        Set<Name> duplicateNames = findDuplicateKeys(events, Event::getName);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateEventException(duplicateNames);
         }
 
         internalList.setAll(events);
+        positionIndex.reset();
+        nameIndex.clear();
+        for (Event event : events) {
+            nameIndex.put(event.getName(), event);
+        }
+        tokenIndex.setNames(nameIndex.keySet());
+        timeIndex.setEvents(events);
     }
 
     /**
@@ -134,18 +230,4 @@ public class UniqueEventList implements Iterable<Event> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code events} contains only unique events.
-     */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -1,5 +1,10 @@
 package seedu.club.model.event.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import seedu.club.model.name.Name;
+
 /**
  * Signals that the operation will result in duplicate Events (Events are considered duplicates if they have the same
  * identity).
@@ -8,4 +13,12 @@ public class DuplicateEventException extends RuntimeException {
     public DuplicateEventException() {
         super("Operation would result in duplicate events");
     }
+
+    /**
+     * Constructs a {@code DuplicateEventException} that names every event identity that is duplicated.
+     */
+    public DuplicateEventException(Collection<Name> duplicateNames) {
+        super("Operation would result in duplicate events: "
+                + duplicateNames.stream().map(Name::toString).collect(Collectors.joining(", ")));
+    }
 }
@@ -94,10 +94,20 @@ public class Member extends NamedEntity {
     }
 
     /**
-     * Iterate through the given set of event roles. Removes event roles that belong to
-     * the old event name in the member's event list and replaces them.
+     * Replaces the member's EventRoles with {@code roles}
      */
-    public Member updateEditedEventRolesList(Set<EventRole> updatedRoles, Name oldName, Name updatedName) {
+    public void setEventRoles(Set<EventRole> roles) {
+        Set<EventRole> newRoles = new HashSet<>(roles);
+        eventRoles.clear();
+        eventRoles.addAll(newRoles);
+    }
+
+    /**
+     * Iterate through the given set of event roles. Returns the member's event roles with those that belong to
+     * the old event name replaced by the matching roles of the edited event.
+     * The member's own event roles are left unchanged.
+     */
+    public Set<EventRole> getEditedEventRoles(Set<EventRole> updatedRoles, Name oldName, Name updatedName) {
         Set<EventRole> newRoles = new HashSet<>();
         for (EventRole role : eventRoles) {
             if (role.isParticipant() && role.getAssignedTo().equals(oldName)) {
@@ -112,10 +122,7 @@ public class Member extends NamedEntity {
             }
         }
 
-        eventRoles.clear();
-        eventRoles.addAll(newRoles);
-
-        return this;
+        return newRoles;
     }
 
     /**
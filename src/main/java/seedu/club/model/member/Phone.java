@@ -3,6 +3,8 @@ package seedu.club.model.member;
 import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Member's phone number in the club book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -13,6 +15,9 @@ public class Phone {
             + "An optional country code (+1 to +999, no leading zeros) may precede the phone number, "
             + "separated with a space.\nNo other spaces are allowed.";
     public static final String VALIDATION_REGEX = "^(?:\\+[1-9]\\d{0,2}\\s)?(?:0[1-9]\\d{5,10}|[1-9]\\d{6,11})$";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -30,7 +35,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
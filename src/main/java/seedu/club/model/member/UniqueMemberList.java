@@ -1,15 +1,26 @@
 package seedu.club.model.member;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.club.commons.util.CollectionUtil.findDuplicateKeys;
 import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.club.model.member.exceptions.DuplicateMemberException;
 import seedu.club.model.member.exceptions.MemberNotFoundException;
+import seedu.club.model.name.Name;
+import seedu.club.model.name.NameKeyword;
+import seedu.club.model.name.NamePositionIndex;
+import seedu.club.model.name.NameTokenIndex;
+import seedu.club.model.role.MemberRole;
 
 /**
  * A list of members that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +29,11 @@ import seedu.club.model.member.exceptions.MemberNotFoundException;
  * unique in terms of identity in the UniqueMemberList. However, the removal of a member uses Member#equals(Object) so
  * as to ensure that the member with exactly the same fields will be removed.
  *
+ * Members are additionally indexed by {@code Name}, which compares case-insensitively, and by the words in their names,
+ * so that identity checks and keyword searches do not require a scan of the whole list, and by their positions in the
+ * list, so that replacing or removing a member does not either. The names of the members are also indexed by phone,
+ * email and member role, so that members can be looked up by those fields just as quickly.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Member#isSameMember(Member)
@@ -27,13 +43,61 @@ public class UniqueMemberList implements Iterable<Member> {
     private final ObservableList<Member> internalList = FXCollections.observableArrayList();
     private final ObservableList<Member> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Member> nameIndex = new HashMap<>();
+    private final NamePositionIndex<Member> positionIndex = new NamePositionIndex<>(internalList, Member::getName);
+    private final NameTokenIndex tokenIndex = new NameTokenIndex();
+    private final Map<Phone, Set<Name>> phoneIndex = new HashMap<>();
+    private final Map<Email, Set<Name>> emailIndex = new HashMap<>();
+    private final Map<MemberRole, Set<Name>> roleIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent member as the given argument.
      */
     public boolean contains(Member toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameMember);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the member whose name is equivalent to {@code name}, if any.
+     */
+    public Optional<Member> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(name));
+    }
+
+    /**
+     * Returns the names of the members whose names are matched by any of the {@code keywords}.
+     *
+     * @param keywords valid keywords, as declared in {@link NameKeyword#isValidKeyword(String)}.
+     */
+    public Set<Name> findNamesContainingAnyOf(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return tokenIndex.findNamesContainingAnyOf(keywords);
+    }
+
+    /**
+     * Returns the names of the members with the given {@code phone}.
+     */
+    public Set<Name> findNamesWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return new HashSet<>(phoneIndex.getOrDefault(phone, Set.of()));
+    }
+
+    /**
+     * Returns the names of the members with the given {@code email}.
+     */
+    public Set<Name> findNamesWithEmail(Email email) {
+        requireNonNull(email);
+        return new HashSet<>(emailIndex.getOrDefault(email, Set.of()));
+    }
+
+    /**
+     * Returns the names of the members with the given member {@code role}.
+     */
+    public Set<Name> findNamesWithRole(MemberRole role) {
+        requireNonNull(role);
+        return new HashSet<>(roleIndex.getOrDefault(role, Set.of()));
     }
 
     /**
@@ -41,11 +105,24 @@ public class UniqueMemberList implements Iterable<Member> {
      * The member must not already exist in the list.
      */
     public void add(Member toAdd) {
+        requireNonNull(toAdd);
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a member to the list at {@code index}, shifting the members from there onwards back.
+     * The member must not already exist in the list.
+     */
+    public void add(int index, Member toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateMemberException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        positionIndex.added(index);
+        nameIndex.put(toAdd.getName(), toAdd);
+        tokenIndex.add(toAdd.getName());
+        indexFields(toAdd);
     }
 
     /**
@@ -56,7 +133,7 @@ public class UniqueMemberList implements Iterable<Member> {
     public void setMember(Member target, Member editedMember) {
         requireAllNonNull(target, editedMember);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new MemberNotFoundException();
         }
@@ -66,6 +143,25 @@ public class UniqueMemberList implements Iterable<Member> {
         }
 
         internalList.set(index, editedMember);
+        positionIndex.replaced(target.getName(), index);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedMember.getName(), editedMember);
+        tokenIndex.remove(target.getName());
+        tokenIndex.add(editedMember.getName());
+        unindexFields(target);
+        indexFields(editedMember);
+    }
+
+    /**
+     * Returns the position of {@code member} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Member member) {
+        requireNonNull(member);
+        Member indexedMember = nameIndex.get(member.getName());
+        if (indexedMember == null || !indexedMember.equals(member)) {
+            return -1;
+        }
+        return positionIndex.indexOf(member.getName());
     }
 
     /**
@@ -74,14 +170,25 @@ public class UniqueMemberList implements Iterable<Member> {
      */
     public void remove(Member toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new MemberNotFoundException();
         }
+        internalList.remove(index);
+        positionIndex.removed(toRemove.getName(), index);
+        nameIndex.remove(toRemove.getName());
+        tokenIndex.remove(toRemove.getName());
+        unindexFields(toRemove);
     }
 
     public void setMembers(UniqueMemberList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionIndex.reset();
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        tokenIndex.setNames(nameIndex.keySet());
+        reindexFields();
     }
 
     /**
@@ -90,11 +197,53 @@ public class UniqueMemberList implements Iterable<Member> {
      */
     public void setMembers(List<Member> members) {
         requireAllNonNull(members);
-        if (!membersAreUnique(members)) {
-            throw new DuplicateMemberException();
+        Set<Name> duplicateNames = findDuplicateKeys(members, Member::getName);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateMemberException(duplicateNames);
         }
 
         internalList.setAll(members);
+        positionIndex.reset();
+        nameIndex.clear();
+        for (Member member : members) {
+            nameIndex.put(member.getName(), member);
+        }
+        tokenIndex.setNames(nameIndex.keySet());
+        reindexFields();
+    }
+
+    private void reindexFields() {
+        phoneIndex.clear();
+        emailIndex.clear();
+        roleIndex.clear();
+        internalList.forEach(this::indexFields);
+    }
+
+    private void indexFields(Member member) {
+        addIndexEntry(phoneIndex, member.getPhone(), member.getName());
+        addIndexEntry(emailIndex, member.getEmail(), member.getName());
+        for (MemberRole role : member.getMemberRoles()) {
+            addIndexEntry(roleIndex, role, member.getName());
+        }
+    }
+
+    private void unindexFields(Member member) {
+        removeIndexEntry(phoneIndex, member.getPhone(), member.getName());
+        removeIndexEntry(emailIndex, member.getEmail(), member.getName());
+        for (MemberRole role : member.getMemberRoles()) {
+            removeIndexEntry(roleIndex, role, member.getName());
+        }
+    }
+
+    private static <K> void addIndexEntry(Map<K, Set<Name>> index, K key, Name name) {
+        index.computeIfAbsent(key, unused -> new HashSet<>()).add(name);
+    }
+
+    private static <K> void removeIndexEntry(Map<K, Set<Name>> index, K key, Name name) {
+        Set<Name> names = index.get(key);
+        if (names != null && names.remove(name) && names.isEmpty()) {
+            index.remove(key);
+        }
     }
 
     /**
@@ -133,18 +282,4 @@ public class UniqueMemberList implements Iterable<Member> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code members} contains only unique members.
-     */
-    private boolean membersAreUnique(List<Member> members) {
-        for (int i = 0; i < members.size() - 1; i++) {
-            for (int j = i + 1; j < members.size(); j++) {
-                if (members.get(i).isSameMember(members.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -1,5 +1,10 @@
 package seedu.club.model.member.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import seedu.club.model.name.Name;
+
 /**
  * Signals that the operation will result in duplicate Members (Members are considered duplicates if they have the same
  * identity).
@@ -8,4 +13,12 @@ public class DuplicateMemberException extends RuntimeException {
     public DuplicateMemberException() {
         super("Operation would result in duplicate members");
     }
+
+    /**
+     * Constructs a {@code DuplicateMemberException} that names every member identity that is duplicated.
+     */
+    public DuplicateMemberException(Collection<Name> duplicateNames) {
+        super("Operation would result in duplicate members: "
+                + duplicateNames.stream().map(Name::toString).collect(Collectors.joining(", ")));
+    }
 }
@@ -3,6 +3,8 @@ package seedu.club.model.name;
 import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents the name of a {@code NamedEntity}.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,6 +23,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}][\\p{Alnum} ,()@.'\\\\-]*[\\p{Alnum}]$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
     /**
@@ -38,7 +42,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
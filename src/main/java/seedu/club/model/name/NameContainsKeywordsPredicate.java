@@ -1,25 +1,36 @@
 package seedu.club.model.name;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
-import seedu.club.commons.util.StringUtil;
 import seedu.club.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Member}'s {@code Name} matches any of the keywords given.
+ * Keywords may match whole words, prefixes or words with typos, as described in {@link NameKeyword}.
  */
 public class NameContainsKeywordsPredicate<T extends NamedEntity> implements Predicate<T> {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(T entry) {
+        String[] nameWords = WHITESPACE.split(entry.getName().fullName);
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(entry.getName().fullName, keyword));
+                .map(NameKeyword::of)
+                .anyMatch(keyword -> Arrays.stream(nameWords).anyMatch(keyword::matches));
     }
 
     @Override
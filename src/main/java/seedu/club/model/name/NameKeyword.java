@@ -0,0 +1,137 @@
+package seedu.club.model.name;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.club.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents a keyword to search names with, which is matched against each word in a name ignoring case.
+ * A keyword ending with {@value #PREFIX_MARKER} matches words that start with it, and a keyword ending with
+ * {@value #TYPO_MARKER} also matches words that differ from it by a typo or two.
+ * Any other keyword only matches whole words.
+ */
+public class NameKeyword {
+
+    public static final char PREFIX_MARKER = '*';
+    public static final char TYPO_MARKER = '~';
+
+    public static final String MESSAGE_CONSTRAINTS = "Keywords should have at least one character other than "
+            + PREFIX_MARKER + " or " + TYPO_MARKER;
+
+    /** Words of at most this length are matched with at most one typo, and longer words with at most two. */
+    private static final int MAX_LENGTH_FOR_ONE_TYPO = 5;
+
+    /**
+     * The ways in which a keyword can match a word.
+     */
+    public enum MatchType { WHOLE_WORD, PREFIX, TYPO_TOLERANT }
+
+    private final String word;
+    private final MatchType matchType;
+
+    private NameKeyword(String word, MatchType matchType) {
+        this.word = word;
+        this.matchType = matchType;
+    }
+
+    /**
+     * Parses {@code keyword} into a {@code NameKeyword}.
+     *
+     * @param keyword a valid keyword, as declared in {@link #isValidKeyword(String)}.
+     */
+    public static NameKeyword of(String keyword) {
+        requireNonNull(keyword);
+        checkArgument(isValidKeyword(keyword), MESSAGE_CONSTRAINTS);
+        String trimmedKeyword = keyword.trim();
+        char marker = trimmedKeyword.charAt(trimmedKeyword.length() - 1);
+        String unmarkedWord = trimmedKeyword.substring(0, trimmedKeyword.length() - 1).toLowerCase();
+        if (marker == PREFIX_MARKER) {
+            return new NameKeyword(unmarkedWord, MatchType.PREFIX);
+        } else if (marker == TYPO_MARKER) {
+            return new NameKeyword(unmarkedWord, MatchType.TYPO_TOLERANT);
+        }
+        return new NameKeyword(trimmedKeyword.toLowerCase(), MatchType.WHOLE_WORD);
+    }
+
+    /**
+     * Returns true if {@code keyword} has a word to match apart from its marker.
+     */
+    public static boolean isValidKeyword(String keyword) {
+        String trimmedKeyword = keyword.trim();
+        return !trimmedKeyword.isEmpty()
+                && !(trimmedKeyword.length() == 1
+                        && (trimmedKeyword.charAt(0) == PREFIX_MARKER || trimmedKeyword.charAt(0) == TYPO_MARKER));
+    }
+
+    /**
+     * Returns the lower-cased word to match, without any marker.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    /**
+     * Returns the largest number of single-character edits allowed between this keyword and a word it matches.
+     */
+    public int getMaxTypos() {
+        if (matchType != MatchType.TYPO_TOLERANT) {
+            return 0;
+        }
+        return word.length() <= MAX_LENGTH_FOR_ONE_TYPO ? 1 : 2;
+    }
+
+    /**
+     * Returns true if this keyword matches {@code nameWord}, ignoring case.
+     */
+    public boolean matches(String nameWord) {
+        String lowerCaseWord = nameWord.toLowerCase();
+        switch (matchType) {
+        case PREFIX:
+            return lowerCaseWord.startsWith(word);
+        case TYPO_TOLERANT:
+            return editDistance(word, lowerCaseWord) <= getMaxTypos();
+        default:
+            return lowerCaseWord.equals(word);
+        }
+    }
+
+    /**
+     * Returns the number of single-character insertions, deletions or substitutions needed to turn {@code first}
+     * into {@code second}.
+     */
+    static int editDistance(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1], previousRow[j]) + 1,
+                        previousRow[j - 1] + substitutionCost);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    @Override
+    public String toString() {
+        switch (matchType) {
+        case PREFIX:
+            return word + PREFIX_MARKER;
+        case TYPO_TOLERANT:
+            return word + TYPO_MARKER;
+        default:
+            return word;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.club.model.name;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Indexes the entries of a list by their names, so that the position of an entry can be found without scanning the
+ * list. The list must be changed only through its owner, which tells the index of every change.
+ *
+ * Positions are worked out lazily. Adding to the end of the list or replacing an entry keeps every position up to
+ * date, while adding or removing an entry elsewhere only marks the positions from there onwards as out of date.
+ * Those are worked out again, in one pass, when one of them is next needed.
+ *
+ * @param <T> the type of the entries in the list.
+ */
+public class NamePositionIndex<T> {
+
+    private final List<T> entries;
+    private final Function<T, Name> nameOf;
+    private final Map<Name, Integer> positions = new HashMap<>();
+    // The positions of the entries before this position are up to date
+    private int upToDateCount;
+
+    /**
+     * Creates an index of {@code entries}, which must be empty, whose entries are named by {@code nameOf}.
+     */
+    public NamePositionIndex(List<T> entries, Function<T, Name> nameOf) {
+        requireAllNonNull(entries, nameOf);
+        assert entries.isEmpty();
+        this.entries = entries;
+        this.nameOf = nameOf;
+    }
+
+    /**
+     * Returns the position of the entry named {@code name}, or -1 if there is none.
+     */
+    public int indexOf(Name name) {
+        requireNonNull(name);
+        Integer position = positions.get(name);
+        if (position == null || position >= upToDateCount) {
+            for (int i = upToDateCount; i < entries.size(); i++) {
+                positions.put(nameOf.apply(entries.get(i)), i);
+            }
+            upToDateCount = entries.size();
+            position = positions.get(name);
+        }
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Updates the index after an entry was added to the list at {@code position}.
+     */
+    public void added(int position) {
+        if (position == upToDateCount && position == entries.size() - 1) {
+            positions.put(nameOf.apply(entries.get(position)), position);
+            upToDateCount++;
+        } else {
+            upToDateCount = Math.min(upToDateCount, position);
+        }
+    }
+
+    /**
+     * Updates the index after the entry at {@code position}, named {@code previousName}, was replaced.
+     */
+    public void replaced(Name previousName, int position) {
+        requireNonNull(previousName);
+        positions.remove(previousName);
+        if (position < upToDateCount) {
+            positions.put(nameOf.apply(entries.get(position)), position);
+        }
+    }
+
+    /**
+     * Updates the index after the entry at {@code position}, named {@code name}, was removed from the list.
+     */
+    public void removed(Name name, int position) {
+        requireNonNull(name);
+        positions.remove(name);
+        upToDateCount = Math.min(upToDateCount, position);
+    }
+
+    /**
+     * Updates the index after the whole list was replaced.
+     */
+    public void reset() {
+        positions.clear();
+        upToDateCount = 0;
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.club.model.name;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Indexes names by the words they contain, so that the names matching a {@link NameKeyword} can be found without
+ * checking every name. Words are matched case-insensitively, in the same way as
+ * {@link seedu.club.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ *
+ * The lower-cased words are kept in a trie. Whole words and prefixes are found by walking down from the root, and
+ * typo-tolerant keywords by computing the edit distance to each word along the way, giving up on any branch that is
+ * already too many edits away.
+ */
+public class NameTokenIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    public void add(Name name) {
+        requireNonNull(name);
+        for (String token : tokenize(name.fullName)) {
+            Node node = root;
+            for (int i = 0; i < token.length(); i++) {
+                node = node.children.computeIfAbsent(token.charAt(i), unused -> new Node());
+            }
+            node.names.add(name);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the index, if it is indexed.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        for (String token : tokenize(name.fullName)) {
+            remove(root, token, 0, name);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the word {@code token} below {@code node}, which is {@code depth} characters into it.
+     * Returns true if {@code node} no longer leads to any name.
+     */
+    private static boolean remove(Node node, String token, int depth, Name name) {
+        if (depth == token.length()) {
+            node.names.remove(name);
+        } else {
+            char nextChar = token.charAt(depth);
+            Node child = node.children.get(nextChar);
+            if (child != null && remove(child, token, depth + 1, name)) {
+                node.children.remove(nextChar);
+            }
+        }
+        return node.names.isEmpty() && node.children.isEmpty();
+    }
+
+    /**
+     * Replaces the contents of the index with {@code names}.
+     */
+    public void setNames(Collection<Name> names) {
+        requireNonNull(names);
+        root.names.clear();
+        root.children.clear();
+        names.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed names that are matched by any of the {@code keywords}.
+     *
+     * @param keywords valid keywords, as declared in {@link NameKeyword#isValidKeyword(String)}.
+     */
+    public Set<Name> findNamesContainingAnyOf(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> matchingNames = new HashSet<>();
+        for (String keyword : keywords) {
+            NameKeyword nameKeyword = NameKeyword.of(keyword);
+            switch (nameKeyword.getMatchType()) {
+            case PREFIX:
+                collectPrefixMatches(nameKeyword.getWord(), matchingNames);
+                break;
+            case TYPO_TOLERANT:
+                collectTypoTolerantMatches(nameKeyword.getWord(), nameKeyword.getMaxTypos(), matchingNames);
+                break;
+            default:
+                Node node = find(nameKeyword.getWord());
+                if (node != null) {
+                    matchingNames.addAll(node.names);
+                }
+            }
+        }
+        return matchingNames;
+    }
+
+    private Node find(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.children.get(word.charAt(i));
+        }
+        return node;
+    }
+
+    private void collectPrefixMatches(String prefix, Set<Name> result) {
+        Node node = find(prefix);
+        if (node != null) {
+            collectAll(node, result);
+        }
+    }
+
+    private static void collectAll(Node node, Set<Name> result) {
+        result.addAll(node.names);
+        for (Node child : node.children.values()) {
+            collectAll(child, result);
+        }
+    }
+
+    private void collectTypoTolerantMatches(String word, int maxTypos, Set<Name> result) {
+        // The edit distances from every prefix of word to the (empty) word spelt out by the root
+        int[] distances = new int[word.length() + 1];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = i;
+        }
+        if (distances[word.length()] <= maxTypos) {
+            result.addAll(root.names);
+        }
+        for (Map.Entry<Character, Node> child : root.children.entrySet()) {
+            collectTypoTolerantMatches(child.getValue(), child.getKey(), word, distances, maxTypos, result);
+        }
+    }
+
+    /**
+     * Extends the edit distances in {@code previousDistances} by {@code nextChar}, the character leading to
+     * {@code node}, and collects the names below {@code node} within {@code maxTypos} edits of {@code word}.
+     */
+    private static void collectTypoTolerantMatches(Node node, char nextChar, String word, int[] previousDistances,
+                                                   int maxTypos, Set<Name> result) {
+        int[] distances = new int[word.length() + 1];
+        distances[0] = previousDistances[0] + 1;
+        int closestDistance = distances[0];
+        for (int i = 1; i <= word.length(); i++) {
+            int substitutionCost = word.charAt(i - 1) == nextChar ? 0 : 1;
+            distances[i] = Math.min(Math.min(distances[i - 1], previousDistances[i]) + 1,
+                    previousDistances[i - 1] + substitutionCost);
+            closestDistance = Math.min(closestDistance, distances[i]);
+        }
+
+        if (distances[word.length()] <= maxTypos) {
+            result.addAll(node.names);
+        }
+        if (closestDistance > maxTypos) {
+            // Every longer word is at least this many edits away
+            return;
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            collectTypoTolerantMatches(child.getValue(), child.getKey(), word, distances, maxTypos, result);
+        }
+    }
+
+    private static Set<String> tokenize(String fullName) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : WHITESPACE.split(fullName)) {
+            tokens.add(word.toLowerCase());
+        }
+        return tokens;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Name> names = new HashSet<>();
+    }
+}
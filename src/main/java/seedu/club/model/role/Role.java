@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.club.commons.util.AppUtil.checkArgument;
 import static seedu.club.commons.util.StringUtil.hasLessThanOrEqualLength;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Role in the club book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidRoleName(String)}
@@ -16,6 +18,8 @@ public abstract class Role {
                     + "be within 30 characters, and should not be blank";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String roleName;
 
     /**
@@ -36,7 +40,7 @@ public abstract class Role {
      * Returns true if a given string is a valid role name.
      */
     public static boolean isValidRoleName(String test) {
-        return test.matches(VALIDATION_REGEX) && hasLessThanOrEqualLength(test, FIELD_LENGTH);
+        return VALIDATION_PATTERN.matcher(test).matches() && hasLessThanOrEqualLength(test, FIELD_LENGTH);
     }
 
     /**
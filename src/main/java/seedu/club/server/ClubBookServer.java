@@ -0,0 +1,312 @@
+package seedu.club.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.club.commons.core.LogsCenter;
+import seedu.club.commons.util.JsonUtil;
+import seedu.club.commons.util.StringUtil;
+import seedu.club.logic.Logic;
+import seedu.club.logic.commands.CommandResult;
+import seedu.club.logic.commands.exceptions.CommandException;
+import seedu.club.logic.parser.ParserUtil;
+import seedu.club.logic.parser.exceptions.ParseException;
+
+/**
+ * Serves the club book as JSON over HTTP on the loopback interface, so that other tools on the same machine can
+ * query and update it.
+ *
+ * The endpoints are:
+ * <ul>
+ *     <li>{@code GET /members} and {@code GET /events}, which list all members or events, or only those found by
+ *     the keywords in the {@code find} query parameter, in the same way as {@code findMember} and
+ *     {@code findEvent}.</li>
+ *     <li>{@code POST /commands}, which executes the command in the {@code command} field of the JSON body, as if
+ *     it were entered in the command box, and returns its feedback.</li>
+ * </ul>
+ *
+ * Requests are handled by a pool of threads. Commands are executed through the {@code Logic} one at a time, after
+ * which a new {@code ClubBookSnapshot} is taken by applying the command's changes to the previous one. Reads are
+ * answered from the latest snapshot, so they run at the same time as each other and as commands, and never see a
+ * command's changes halfway.
+ */
+public class ClubBookServer {
+
+    public static final String MEMBERS_PATH = "/members";
+    public static final String EVENTS_PATH = "/events";
+    public static final String COMMANDS_PATH = "/commands";
+    public static final String FIND_PARAMETER = "find";
+    public static final String COMMAND_FIELD = "command";
+
+    public static final String MESSAGE_NOT_FOUND = "There is no endpoint at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s should be requested with %2$s";
+    public static final String MESSAGE_INVALID_COMMAND_REQUEST =
+            "The request body should be a JSON object with a \"" + COMMAND_FIELD + "\" string";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled due to an internal error";
+    public static final String MESSAGE_STOPPED = "The server has stopped executing commands";
+
+    static final int HTTP_OK = 200;
+    static final int HTTP_BAD_REQUEST = 400;
+    static final int HTTP_NOT_FOUND = 404;
+    static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    static final int HTTP_INTERNAL_ERROR = 500;
+    static final int HTTP_UNAVAILABLE = 503;
+
+    private static final int HANDLER_THREAD_COUNT = Math.max(4, Runtime.getRuntime().availableProcessors());
+    /** How long stopping the server waits for the requests being handled to finish. */
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(ClubBookServer.class);
+
+    private final Logic logic;
+    private final HttpServer httpServer;
+    private final ExecutorService handlerThreads;
+    /** Held while a command is executed, so that commands change the club book one at a time. */
+    private final Object commandLock = new Object();
+    private long commandCount = 0;
+    /** Set while holding the command lock once the server is stopped, after which commands are rejected. */
+    private boolean isStopped = false;
+    private volatile ClubBookSnapshot snapshot;
+
+    /**
+     * Creates a {@code ClubBookServer} for {@code logic} that listens on {@code port} of the loopback interface,
+     * or on any free port if {@code port} is 0. The server does not handle requests until it is started.
+     *
+     * @throws IOException if the port cannot be listened on.
+     */
+    public ClubBookServer(Logic logic, int port) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+        snapshot = new ClubBookSnapshot(logic.getClubBook(), commandCount);
+
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threadCount = new AtomicInteger();
+        handlerThreads = Executors.newFixedThreadPool(HANDLER_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "HTTP handler " + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(handlerThreads);
+        httpServer.createContext("/", exchange -> handle(exchange, null, this::handleUnknownPath));
+        httpServer.createContext(MEMBERS_PATH, exchange -> handle(exchange, "GET", this::handleGetMembers));
+        httpServer.createContext(EVENTS_PATH, exchange -> handle(exchange, "GET", this::handleGetEvents));
+        httpServer.createContext(COMMANDS_PATH, exchange -> handle(exchange, "POST", this::handlePostCommand));
+    }
+
+    /**
+     * Starts handling requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info("Serving club book at " + getAddress());
+    }
+
+    /**
+     * Stops handling requests, and waits for the command being executed, if any, to finish.
+     * Commands in requests that are still being handled are rejected instead of executed, so once this returns,
+     * the club book is no longer changed by the server.
+     */
+    public void stop() {
+        httpServer.stop(STOP_DELAY_SECONDS);
+        handlerThreads.shutdown();
+        synchronized (commandLock) {
+            isStopped = true;
+            logger.info("Stopped serving club book after " + commandCount + " command(s)");
+        }
+    }
+
+    /**
+     * Returns the port that the server listens on.
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Returns the address that requests should be sent to, such as {@code http://127.0.0.1:8080}.
+     */
+    public String getAddress() {
+        InetSocketAddress address = httpServer.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    private Response handleUnknownPath(HttpExchange exchange) {
+        return Response.error(HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+    }
+
+    private Response handleGetMembers(HttpExchange exchange) throws ParseException {
+        ClubBookSnapshot currentSnapshot = snapshot;
+        String keywords = parseQuery(exchange.getRequestURI().getRawQuery()).get(FIND_PARAMETER);
+        List<JsonMemberData> members = keywords == null
+                ? currentSnapshot.getMembers()
+                : currentSnapshot.findMembers(ParserUtil.parseNameKeywords(keywords));
+        return Response.ok(currentSnapshot, "members", members);
+    }
+
+    private Response handleGetEvents(HttpExchange exchange) throws ParseException {
+        ClubBookSnapshot currentSnapshot = snapshot;
+        String keywords = parseQuery(exchange.getRequestURI().getRawQuery()).get(FIND_PARAMETER);
+        List<JsonEventData> events = keywords == null
+                ? currentSnapshot.getEvents()
+                : currentSnapshot.findEvents(ParserUtil.parseNameKeywords(keywords));
+        return Response.ok(currentSnapshot, "events", events);
+    }
+
+    private Response handlePostCommand(HttpExchange exchange) throws IOException {
+        String commandText = parseCommandText(exchange.getRequestBody());
+        if (commandText == null) {
+            return Response.error(HTTP_BAD_REQUEST, MESSAGE_INVALID_COMMAND_REQUEST);
+        }
+
+        synchronized (commandLock) {
+            if (isStopped) {
+                return Response.error(HTTP_UNAVAILABLE, MESSAGE_STOPPED);
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                return Response.ok(updateSnapshot(), "feedback", commandResult.getFeedbackToUser());
+            } catch (CommandException | ParseException e) {
+                // a command that fails partway, such as a script, may still have changed the club book
+                updateSnapshot();
+                return Response.error(HTTP_BAD_REQUEST, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the club book after a command, for later reads to be answered from, copying again only
+     * the members and events the command changed. Must be called while holding the command lock.
+     */
+    private ClubBookSnapshot updateSnapshot() {
+        commandCount++;
+        snapshot = snapshot.update(logic.getClubBook(), logic.getLatestClubBookChanges(), commandCount);
+        return snapshot;
+    }
+
+    /**
+     * Returns the command text in the JSON {@code requestBody}, or null if there is none.
+     */
+    private static String parseCommandText(InputStream requestBody) throws IOException {
+        String json = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8);
+        Map<?, ?> request;
+        try {
+            request = JsonUtil.fromJsonString(json, Map.class);
+        } catch (IOException e) {
+            // the body is not a JSON object
+            return null;
+        }
+        Object commandText = request == null ? null : request.get(COMMAND_FIELD);
+        return commandText instanceof String ? (String) commandText : null;
+    }
+
+    /**
+     * Returns the parameters in the URL-encoded {@code rawQuery}, which may be null.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            parameters.put(URLDecoder.decode(nameAndValue[0], StandardCharsets.UTF_8),
+                    nameAndValue.length > 1 ? URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8) : "");
+        }
+        return parameters;
+    }
+
+    /**
+     * Responds to {@code exchange} with the response from {@code handler}, if it is requested with
+     * {@code allowedMethod}, or any method if {@code allowedMethod} is null.
+     */
+    private void handle(HttpExchange exchange, String allowedMethod, Handler handler) {
+        try (exchange) {
+            Response response;
+            try {
+                String path = exchange.getRequestURI().getPath();
+                if (allowedMethod != null && !exchange.getHttpContext().getPath().equals(path)) {
+                    response = handleUnknownPath(exchange);
+                } else if (allowedMethod != null && !allowedMethod.equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", allowedMethod);
+                    response = Response.error(HTTP_METHOD_NOT_ALLOWED,
+                            String.format(MESSAGE_METHOD_NOT_ALLOWED, path, allowedMethod));
+                } else {
+                    response = handler.handle(exchange);
+                }
+            } catch (ParseException e) {
+                response = Response.error(HTTP_BAD_REQUEST, e.getMessage());
+            } catch (IOException | RuntimeException e) {
+                logger.severe("Failed to handle request to " + exchange.getRequestURI() + ": "
+                        + StringUtil.getDetails(e));
+                response = Response.error(HTTP_INTERNAL_ERROR, MESSAGE_INTERNAL_ERROR);
+            }
+            send(exchange, response);
+        } catch (IOException e) {
+            logger.warning("Failed to respond to request to " + exchange.getRequestURI() + ": " + e.getMessage());
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = JsonUtil.toCompactJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    /**
+     * Handles a request to one of the endpoints.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(HttpExchange exchange) throws IOException, ParseException;
+    }
+
+    /**
+     * The status and JSON body to respond to a request with.
+     */
+    private static class Response {
+        private final int status;
+        private final Map<String, Object> body;
+
+        private Response(int status, Map<String, Object> body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        /**
+         * Returns a successful response with {@code value} under {@code name}, and the version of {@code snapshot}
+         * it was read from or written to.
+         */
+        static Response ok(ClubBookSnapshot snapshot, String name, Object value) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("version", snapshot.getVersion());
+            body.put(name, value);
+            return new Response(HTTP_OK, body);
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, Map.of("error", message));
+        }
+    }
+}
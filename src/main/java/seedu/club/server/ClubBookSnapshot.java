@@ -0,0 +1,179 @@
+package seedu.club.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.club.model.ClubBookChanges;
+import seedu.club.model.ReadOnlyClubBook;
+import seedu.club.model.event.Event;
+import seedu.club.model.member.Member;
+import seedu.club.model.name.Name;
+import seedu.club.model.name.NameTokenIndex;
+
+/**
+ * A copy of the members and events in a club book at one point in time, which many threads can read at once while
+ * the club book itself keeps changing.
+ *
+ * Nothing in a snapshot is changed after it is created, so a snapshot that is safely published, such as through a
+ * volatile field, can be read without locking. A snapshot taken after a command reuses the copies of the members and
+ * events the command did not change from the snapshot taken before it, so only the changed ones are copied again.
+ * The lists and the map holding the copies are still built anew, which takes time linear in the size of the club
+ * book for every command that changes it, though only to copy references.
+ */
+class ClubBookSnapshot {
+
+    private final long version;
+    private final Copies<JsonMemberData> members;
+    private final Copies<JsonEventData> events;
+
+    /**
+     * Copies the members and events in {@code clubBook}, keeping their order.
+     *
+     * @param version the number of commands executed before the copy was made.
+     */
+    ClubBookSnapshot(ReadOnlyClubBook clubBook, long version) {
+        this(version, Copies.of(clubBook.getMemberList(), Member::getName, JsonMemberData::new),
+                Copies.of(clubBook.getEventList(), Event::getName, JsonEventData::new));
+    }
+
+    private ClubBookSnapshot(long version, Copies<JsonMemberData> members, Copies<JsonEventData> events) {
+        this.version = version;
+        this.members = members;
+        this.events = events;
+    }
+
+    /**
+     * Returns a snapshot of {@code clubBook} after it was changed by {@code changes} since this snapshot was taken.
+     * Only the members and events in {@code changes} are copied again. If there are no changes, this snapshot's
+     * copies are shared as they are. Otherwise, the copies of the members, or of the events, are gathered into new
+     * lists and a new map, which takes time linear in their number.
+     *
+     * @param version the number of commands executed before the copy was made.
+     */
+    ClubBookSnapshot update(ReadOnlyClubBook clubBook, ClubBookChanges changes, long version) {
+        requireNonNull(clubBook);
+        requireNonNull(changes);
+        if (changes.isReset()) {
+            return new ClubBookSnapshot(clubBook, version);
+        }
+        return new ClubBookSnapshot(version,
+                members.update(clubBook.getMemberList(), Member::getName, JsonMemberData::new,
+                        changes.getUpdatedMembers(), changes.getRemovedMemberNames()),
+                events.update(clubBook.getEventList(), Event::getName, JsonEventData::new,
+                        changes.getUpdatedEvents(), changes.getRemovedEventNames()));
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns all the members, in the order they are in the club book.
+     */
+    List<JsonMemberData> getMembers() {
+        return members.copies;
+    }
+
+    /**
+     * Returns all the events, in the order they are in the club book.
+     */
+    List<JsonEventData> getEvents() {
+        return events.copies;
+    }
+
+    /**
+     * Returns the members whose names are matched by any of the {@code keywords}, in the same way as
+     * {@code findMember}.
+     *
+     * @param keywords valid keywords, as declared in {@link seedu.club.model.name.NameKeyword#isValidKeyword(String)}.
+     */
+    List<JsonMemberData> findMembers(Collection<String> keywords) {
+        return members.find(keywords);
+    }
+
+    /**
+     * Returns the events whose names are matched by any of the {@code keywords}, in the same way as
+     * {@code findEvent}.
+     *
+     * @param keywords valid keywords, as declared in {@link seedu.club.model.name.NameKeyword#isValidKeyword(String)}.
+     */
+    List<JsonEventData> findEvents(Collection<String> keywords) {
+        return events.find(keywords);
+    }
+
+    /**
+     * Copies of the members or events of a club book, in order, with their names indexed.
+     * Nothing in it is changed after it is created, so it can be shared by many snapshots, as can the copies in it.
+     */
+    private static class Copies<R> {
+        private final List<Name> names;
+        private final List<R> copies;
+        private final Map<Name, R> copiesByName;
+        private final NameTokenIndex nameIndex;
+
+        private <T> Copies(List<T> entries, Function<T, Name> nameOf, Map<Name, R> copiesByName,
+                           NameTokenIndex nameIndex) {
+            names = entries.stream().map(nameOf).toList();
+            copies = names.stream().map(copiesByName::get).toList();
+            this.copiesByName = Collections.unmodifiableMap(copiesByName);
+            this.nameIndex = nameIndex;
+        }
+
+        /**
+         * Copies all the {@code entries}.
+         */
+        static <T, R> Copies<R> of(List<T> entries, Function<T, Name> nameOf, Function<T, R> copyOf) {
+            Map<Name, R> copiesByName = new HashMap<>();
+            for (T entry : entries) {
+                copiesByName.put(nameOf.apply(entry), copyOf.apply(entry));
+            }
+            NameTokenIndex nameIndex = new NameTokenIndex();
+            nameIndex.setNames(copiesByName.keySet());
+            return new Copies<>(entries, nameOf, copiesByName, nameIndex);
+        }
+
+        /**
+         * Returns copies of {@code entries}, which are these copies' entries after {@code updatedEntries} were added
+         * or edited and the entries named {@code removedNames} were removed. The other copies are reused, and so is
+         * the name index if no name was added or removed. Unless there are no changes, the map of copies by name is
+         * copied and the lists are rebuilt from {@code entries}, which takes time linear in their number.
+         */
+        <T> Copies<R> update(List<T> entries, Function<T, Name> nameOf, Function<T, R> copyOf,
+                             List<T> updatedEntries, Set<Name> removedNames) {
+            if (updatedEntries.isEmpty() && removedNames.isEmpty()) {
+                return this;
+            }
+
+            Map<Name, R> updatedCopiesByName = new HashMap<>(copiesByName);
+            boolean hasChangedNames = updatedCopiesByName.keySet().removeAll(removedNames);
+            for (T entry : updatedEntries) {
+                if (updatedCopiesByName.put(nameOf.apply(entry), copyOf.apply(entry)) == null) {
+                    hasChangedNames = true;
+                }
+            }
+
+            NameTokenIndex updatedNameIndex = nameIndex;
+            if (hasChangedNames) {
+                updatedNameIndex = new NameTokenIndex();
+                updatedNameIndex.setNames(updatedCopiesByName.keySet());
+            }
+            // the order of the entries can change even if their names do not, such as when one is removed and added
+            return new Copies<>(entries, nameOf, updatedCopiesByName, updatedNameIndex);
+        }
+
+        List<R> find(Collection<String> keywords) {
+            Set<Name> matchingNames = nameIndex.findNamesContainingAnyOf(keywords);
+            return names.stream()
+                    .filter(matchingNames::contains)
+                    .map(copiesByName::get)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.club.server;
+
+import java.util.List;
+
+import seedu.club.model.event.Event;
+
+/**
+ * The JSON form of an {@code Event} served by the {@code ClubBookServer}.
+ * It is a copy of the event's fields, so it stays the same when the event or its roster is changed afterwards.
+ */
+class JsonEventData {
+
+    private final String name;
+    private final String from;
+    private final String to;
+    private final String details;
+    private final List<String> roles;
+    private final List<String> roster;
+
+    /**
+     * Copies the fields of {@code source}, with the roster given as the names of its members.
+     */
+    JsonEventData(Event source) {
+        name = source.getName().fullName;
+        from = source.getFrom().value;
+        to = source.getTo().value;
+        details = source.getDetail();
+        roles = source.getRoles().stream()
+                .map(role -> role.roleName)
+                .sorted()
+                .toList();
+        roster = source.getRoster().stream()
+                .map(member -> member.getName().fullName)
+                .sorted()
+                .toList();
+    }
+}
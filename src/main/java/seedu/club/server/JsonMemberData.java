@@ -0,0 +1,38 @@
+package seedu.club.server;
+
+import java.util.List;
+
+import seedu.club.model.member.Member;
+import seedu.club.model.role.EventRole;
+
+/**
+ * The JSON form of a {@code Member} served by the {@code ClubBookServer}.
+ * It is a copy of the member's fields, so it stays the same when the member is changed afterwards.
+ */
+class JsonMemberData {
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final List<String> memberRoles;
+    private final List<String> eventRoles;
+
+    /**
+     * Copies the fields of {@code source}. Event roles are given as {@code EVENT>ROLE}, leaving out the roles of
+     * members who only participate in an event.
+     */
+    JsonMemberData(Member source) {
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        memberRoles = source.getMemberRoles().stream()
+                .map(role -> role.roleName)
+                .sorted()
+                .toList();
+        eventRoles = source.getEventRoles().stream()
+                .filter(role -> !role.isParticipant())
+                .map(EventRole::toString)
+                .sorted()
+                .toList();
+    }
+}
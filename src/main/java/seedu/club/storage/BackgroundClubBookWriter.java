@@ -0,0 +1,201 @@
+package seedu.club.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.club.commons.core.LogsCenter;
+import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookChanges;
+import seedu.club.model.ReadOnlyClubBook;
+import seedu.club.model.event.Event;
+import seedu.club.model.member.Member;
+import seedu.club.model.name.Name;
+
+/**
+ * Saves club book changes to a {@code ClubBookStorage} on a background thread, so that callers do not wait on the
+ * disk. Changes submitted while a save is in progress are coalesced into a single save once it completes.
+ */
+class BackgroundClubBookWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundClubBookWriter.class);
+
+    private final ClubBookStorage clubBookStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ClubBook writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Queue<PendingSave> pendingSaves = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isSaveScheduled = new AtomicBoolean();
+    private final AtomicReference<IOException> lastFailure = new AtomicReference<>();
+
+    // Copy of the club book as of the last submitted changes, only used on the writer thread
+    private final ClubBook savedClubBook = new ClubBook();
+    // Set once a whole club book has been submitted, which later changes can then be applied to
+    private volatile boolean hasSubmittedClubBook;
+
+    BackgroundClubBookWriter(ClubBookStorage clubBookStorage) {
+        this.clubBookStorage = clubBookStorage;
+    }
+
+    /**
+     * Schedules {@code changes} to be saved in the background.
+     * The changed members and events are copied before returning, so later edits to them are not picked up.
+     *
+     * @param clubBook the club book after {@code changes}; only copied if the whole club book was replaced, or if
+     *     this is the first submission, so that later changes are never applied to a partial copy.
+     */
+    void submit(ReadOnlyClubBook clubBook, ClubBookChanges changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        boolean isWholeClubBook = changes.isReset() || !hasSubmittedClubBook;
+        pendingSaves.add(isWholeClubBook ? new PendingSave(copyOf(clubBook)) : new PendingSave(copyOf(changes)));
+        hasSubmittedClubBook = true;
+        if (isSaveScheduled.compareAndSet(false, true)) {
+            executor.execute(this::savePending);
+        }
+    }
+
+    /**
+     * Blocks until every change submitted so far has been saved.
+     *
+     * @throws IOException if saving any of them failed and the failure has not yet been reported.
+     */
+    void flush() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+        rethrowFailure();
+    }
+
+    /**
+     * Throws the failure of the most recent unsuccessful background save, if it has not been reported yet.
+     */
+    void rethrowFailure() throws IOException {
+        IOException failure = lastFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Applies every pending submission to {@code savedClubBook} and saves their combined changes at once.
+     */
+    private void savePending() {
+        // Cleared first, so that submissions arriving from here on schedule another save
+        isSaveScheduled.set(false);
+
+        PendingSave pendingSave;
+        while ((pendingSave = pendingSaves.poll()) != null) {
+            pendingSave.applyTo(savedClubBook);
+        }
+
+        ClubBookChanges combinedChanges = savedClubBook.pollChanges();
+        if (combinedChanges.isEmpty()) {
+            return;
+        }
+        try {
+            clubBookStorage.saveClubBookChanges(savedClubBook, combinedChanges);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save data in the background: " + e);
+            lastFailure.set(e instanceof IOException ? (IOException) e : new IOException(e));
+        }
+    }
+
+    private static ClubBook copyOf(ReadOnlyClubBook clubBook) {
+        ClubBook copy = new ClubBook();
+        copy.setMembers(clubBook.getMemberList().stream().map(BackgroundClubBookWriter::copyOf)
+                .collect(Collectors.toList()));
+        copy.setEvents(clubBook.getEventList().stream().map(BackgroundClubBookWriter::copyOf)
+                .collect(Collectors.toList()));
+        return copy;
+    }
+
+    private static ClubBookChanges copyOf(ClubBookChanges changes) {
+        List<Member> updatedMembers = changes.getUpdatedMembers().stream().map(BackgroundClubBookWriter::copyOf)
+                .collect(Collectors.toList());
+        List<Event> updatedEvents = changes.getUpdatedEvents().stream().map(BackgroundClubBookWriter::copyOf)
+                .collect(Collectors.toList());
+        return new ClubBookChanges(false, updatedMembers, Set.copyOf(changes.getRemovedMemberNames()),
+                updatedEvents, Set.copyOf(changes.getRemovedEventNames()));
+    }
+
+    private static Member copyOf(Member member) {
+        return new Member(member.getName(), member.getPhone(), member.getEmail(), member.getMemberRoles(),
+                member.getEventRoles());
+    }
+
+    // Members in the copied roster are only read for their names, which never change
+    private static Event copyOf(Event event) {
+        return new Event(event.getName(), event.getFrom(), event.getTo(), event.getDetail(), event.getRoles(),
+                event.getRoster());
+    }
+
+    /**
+     * A submission waiting to be saved: either a copy of a whole club book that replaced the previous one,
+     * or copies of the changes made to it.
+     */
+    private static class PendingSave {
+        private final ClubBook replacement;
+        private final ClubBookChanges changes;
+
+        PendingSave(ClubBook replacement) {
+            this.replacement = replacement;
+            this.changes = null;
+        }
+
+        PendingSave(ClubBookChanges changes) {
+            this.replacement = null;
+            this.changes = changes;
+        }
+
+        void applyTo(ClubBook clubBook) {
+            if (replacement != null) {
+                clubBook.resetData(replacement);
+                return;
+            }
+
+            for (Name name : changes.getRemovedMemberNames()) {
+                clubBook.findMember(name).ifPresent(clubBook::removeMember);
+            }
+            for (Name name : changes.getRemovedEventNames()) {
+                clubBook.findEvent(name).ifPresent(clubBook::removeEvent);
+            }
+            for (Member member : changes.getUpdatedMembers()) {
+                Optional<Member> savedMember = clubBook.findMember(member.getName());
+                if (savedMember.isPresent()) {
+                    clubBook.setMember(savedMember.get(), member);
+                } else {
+                    clubBook.addMember(member);
+                }
+            }
+            for (Event event : changes.getUpdatedEvents()) {
+                Optional<Event> savedEvent = clubBook.findEvent(event.getName());
+                if (savedEvent.isPresent()) {
+                    clubBook.setEvent(savedEvent.get(), event);
+                } else {
+                    clubBook.addEvent(event);
+                }
+            }
+        }
+    }
+}
@@ -2,10 +2,12 @@ package seedu.club.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.club.commons.exceptions.DataLoadingException;
 import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookChanges;
 import seedu.club.model.ReadOnlyClubBook;
 
 /**
@@ -17,6 +19,11 @@ public interface ClubBookStorage {
      */
     Path getClubBookFilePath();
 
+    /**
+     * Returns the file paths of the backups of the ClubBook data file, from the most recent to the oldest.
+     */
+    List<Path> getClubBookBackupFilePaths();
+
     /**
      * Returns ClubBook data as a {@link ReadOnlyClubBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -42,4 +49,13 @@ public interface ClubBookStorage {
      */
     void saveClubBook(ReadOnlyClubBook clubBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ClubBookChanges} to the storage, writing only the members and events that changed
+     * where possible. {@code changes} must cover every change to {@code clubBook} since it was last saved.
+     * @param clubBook cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveClubBookChanges(ReadOnlyClubBook clubBook, ClubBookChanges changes) throws IOException;
+
 }
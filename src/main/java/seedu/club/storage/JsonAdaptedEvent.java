@@ -3,13 +3,13 @@ package seedu.club.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.collections.ObservableList;
 import seedu.club.commons.exceptions.IllegalValueException;
 import seedu.club.logic.Messages;
 import seedu.club.model.event.DateTime;
@@ -71,13 +71,18 @@ class JsonAdaptedEvent {
                 .collect(Collectors.toList()));
     }
 
+    String getName() {
+        return name;
+    }
+
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
      *
+     * @param membersByName the loaded members, keyed by their full name, to resolve the roster against.
      * @return Event
      * @throws IllegalValueException if there were any data constraints violated in adapted event.
      */
-    public Event toModelType(ObservableList<Member> memberList) throws IllegalValueException {
+    public Event toModelType(Map<String, Member> membersByName) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -133,10 +138,7 @@ class JsonAdaptedEvent {
         // Map the roster names to existing members
         final Set<Member> modelRoster = new HashSet<>();
         for (String memberName : roster) {
-            Member member = memberList.stream()
-                    .filter(m -> m.getName().toString().equals(memberName))
-                    .findFirst()
-                    .orElse(null);
+            Member member = membersByName.get(memberName);
             if (member == null) {
                 throw new IllegalValueException(String.format(MISSING_MEMBER_MESSAGE_FORMAT, memberName));
             }
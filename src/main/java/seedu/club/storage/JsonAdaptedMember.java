@@ -64,6 +64,10 @@ class JsonAdaptedMember {
                 .collect(Collectors.toList()));
     }
 
+    String getName() {
+        return name;
+    }
+
     /**
      * Converts this Jackson-friendly adapted member object into the model's {@code Member} object.
      *
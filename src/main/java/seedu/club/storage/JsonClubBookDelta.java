@@ -0,0 +1,76 @@
+package seedu.club.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.club.model.ClubBookChanges;
+import seedu.club.model.name.Name;
+
+/**
+ * Jackson-friendly version of {@link ClubBookChanges}, stored as a single entry of the club book journal.
+ */
+class JsonClubBookDelta {
+
+    private final List<JsonAdaptedMember> members = new ArrayList<>();
+    private final List<String> removedMembers = new ArrayList<>();
+    private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    private final List<String> removedEvents = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonClubBookDelta} with the given updated and removed members and events.
+     */
+    @JsonCreator
+    public JsonClubBookDelta(@JsonProperty("members") List<JsonAdaptedMember> members,
+                             @JsonProperty("removedMembers") List<String> removedMembers,
+                             @JsonProperty("events") List<JsonAdaptedEvent> events,
+                             @JsonProperty("removedEvents") List<String> removedEvents) {
+        if (members != null) {
+            this.members.addAll(members);
+        }
+        if (removedMembers != null) {
+            this.removedMembers.addAll(removedMembers);
+        }
+        if (events != null) {
+            this.events.addAll(events);
+        }
+        if (removedEvents != null) {
+            this.removedEvents.addAll(removedEvents);
+        }
+    }
+
+    /**
+     * Converts the given {@code ClubBookChanges} into this class for Jackson use.
+     * {@code source} must not be a reset of the whole club book.
+     */
+    public JsonClubBookDelta(ClubBookChanges source) {
+        assert !source.isReset();
+
+        members.addAll(source.getUpdatedMembers().stream().map(JsonAdaptedMember::new).collect(Collectors.toList()));
+        removedMembers.addAll(source.getRemovedMemberNames().stream().map(Name::toString)
+                .collect(Collectors.toList()));
+        events.addAll(source.getUpdatedEvents().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        removedEvents.addAll(source.getRemovedEventNames().stream().map(Name::toString)
+                .collect(Collectors.toList()));
+    }
+
+    List<JsonAdaptedMember> getMembers() {
+        return Collections.unmodifiableList(members);
+    }
+
+    List<String> getRemovedMembers() {
+        return Collections.unmodifiableList(removedMembers);
+    }
+
+    List<JsonAdaptedEvent> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    List<String> getRemovedEvents() {
+        return Collections.unmodifiableList(removedEvents);
+    }
+}
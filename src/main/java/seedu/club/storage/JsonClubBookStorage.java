@@ -1,9 +1,14 @@
 package seedu.club.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,16 +17,35 @@ import seedu.club.commons.exceptions.DataLoadingException;
 import seedu.club.commons.exceptions.IllegalValueException;
 import seedu.club.commons.util.FileUtil;
 import seedu.club.commons.util.JsonUtil;
+import seedu.club.model.ClubBookChanges;
 import seedu.club.model.ReadOnlyClubBook;
 
 /**
  * A class to access ClubBook data stored as a json file on the hard disk.
+ * Changes saved through {@link #saveClubBookChanges(ReadOnlyClubBook, ClubBookChanges)} are appended to a journal
+ * beside the data file, one line per save, and folded back into the data file once the journal grows long enough.
+ * The data file is always replaced in one step, and its previous versions are kept as numbered backups,
+ * each with the journal that was saved after it.
  */
 public class JsonClubBookStorage implements ClubBookStorage {
 
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    /** Number of previous versions of the data file that are kept. */
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
+    /** Number of journal entries after which the next save rewrites the data file instead. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
     private static final Logger logger = LogsCenter.getLogger(JsonClubBookStorage.class);
 
     private Path clubBookFilePath;
+    private final int compactionThreshold;
+    private final int backupCount;
+    private final boolean isPrettyPrinted;
+    private int journalSize;
+    private boolean isCompactionPending;
 
     /**
      * Constructs a {@code JsonClubBookStorage} with the given member and event file paths
@@ -29,7 +53,37 @@ public class JsonClubBookStorage implements ClubBookStorage {
      * @param clubBookFilePath
      */
     public JsonClubBookStorage(Path clubBookFilePath) {
+        this(clubBookFilePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JsonClubBookStorage} that rewrites the data file at {@code clubBookFilePath}
+     * after every {@code compactionThreshold} journal entries.
+     */
+    public JsonClubBookStorage(Path clubBookFilePath, int compactionThreshold) {
+        this(clubBookFilePath, compactionThreshold, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Constructs a {@code JsonClubBookStorage} that rewrites the data file at {@code clubBookFilePath}
+     * after every {@code compactionThreshold} journal entries, keeping {@code backupCount} previous versions of it.
+     */
+    public JsonClubBookStorage(Path clubBookFilePath, int compactionThreshold, int backupCount) {
+        this(clubBookFilePath, compactionThreshold, backupCount, true);
+    }
+
+    /**
+     * Constructs a {@code JsonClubBookStorage} that rewrites the data file at {@code clubBookFilePath}
+     * after every {@code compactionThreshold} journal entries, keeping {@code backupCount} previous versions of it.
+     * If {@code isPrettyPrinted} is false, the data file is written on a single line, which is smaller and
+     * faster to write but harder to edit by hand.
+     */
+    public JsonClubBookStorage(Path clubBookFilePath, int compactionThreshold, int backupCount,
+                               boolean isPrettyPrinted) {
         this.clubBookFilePath = clubBookFilePath;
+        this.compactionThreshold = compactionThreshold;
+        this.backupCount = backupCount;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     /**
@@ -39,6 +93,11 @@ public class JsonClubBookStorage implements ClubBookStorage {
         return clubBookFilePath;
     }
 
+    @Override
+    public List<Path> getClubBookBackupFilePaths() {
+        return getBackupFilePaths(clubBookFilePath);
+    }
+
     @Override
     public Optional<ReadOnlyClubBook> readClubBook() throws DataLoadingException {
         return readClubBook(clubBookFilePath);
@@ -53,12 +112,36 @@ public class JsonClubBookStorage implements ClubBookStorage {
     public Optional<ReadOnlyClubBook> readClubBook(Path clubBookFilePath) throws DataLoadingException {
         requireNonNull(clubBookFilePath);
 
+        try {
+            return readClubBookWithJournal(clubBookFilePath);
+        } catch (DataLoadingException e) {
+            if (clubBookFilePath.equals(this.clubBookFilePath)) {
+                // the club book is then loaded from elsewhere, so its changes cannot be journaled after this file
+                isCompactionPending = true;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the data file at {@code clubBookFilePath} with the entries of its journal applied.
+     */
+    private Optional<ReadOnlyClubBook> readClubBookWithJournal(Path clubBookFilePath) throws DataLoadingException {
         Optional<JsonSerializableClubBook> jsonClubBook = JsonUtil.readJsonFile(
                 clubBookFilePath, JsonSerializableClubBook.class);
         if (!jsonClubBook.isPresent()) {
             return Optional.empty();
         }
+        Journal journal = readJournal(getJournalFilePath(clubBookFilePath));
+        if (clubBookFilePath.equals(this.clubBookFilePath)) {
+            journalSize = journal.entries.size();
+            if (journal.isIncomplete) {
+                // a new entry would be joined to the incomplete one and skipped with it, so rewrite the data file
+                isCompactionPending = true;
+            }
+        }
         try {
+            jsonClubBook.get().applyDeltas(journal.entries);
             return Optional.of(jsonClubBook.get().toModelType());
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + clubBookFilePath + ": " + ive.getMessage());
@@ -80,8 +163,144 @@ public class JsonClubBookStorage implements ClubBookStorage {
         requireNonNull(clubBook);
         requireNonNull(clubBookFilePath);
 
-        FileUtil.createIfMissing(clubBookFilePath);
-        JsonUtil.saveJsonFile(new JsonSerializableClubBook(clubBook), clubBookFilePath);
+        FileUtil.createParentDirsOfFile(clubBookFilePath);
+        Path journalFilePath = getJournalFilePath(clubBookFilePath);
+        List<Path> backupFilePaths = getBackupFilePaths(clubBookFilePath);
+        if (FileUtil.isFileExists(clubBookFilePath) && !backupFilePaths.isEmpty()) {
+            rotateBackupJournals(backupFilePaths);
+            FileUtil.rotateBackups(clubBookFilePath, backupFilePaths);
+            // the previous version of the data file is only complete with the entries journaled after it
+            FileUtil.rotateBackups(journalFilePath, List.of(getJournalFilePath(backupFilePaths.get(0))));
+        }
+        JsonUtil.saveJsonFileAtomically(new JsonSerializableClubBook(clubBook), clubBookFilePath, isPrettyPrinted);
+        Files.deleteIfExists(journalFilePath);
+        if (clubBookFilePath.equals(this.clubBookFilePath)) {
+            journalSize = 0;
+            isCompactionPending = false;
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal of the data file, or rewrites the data file with {@code clubBook}
+     * if the journal cannot be used: when the data file does not exist yet, the whole club book was replaced,
+     * an earlier save failed, or the journal has reached its compaction threshold.
+     */
+    @Override
+    public void saveClubBookChanges(ReadOnlyClubBook clubBook, ClubBookChanges changes) throws IOException {
+        requireAllNonNull(clubBook, changes);
+
+        boolean isJournalUsable = !changes.isReset() && !isCompactionPending
+                && FileUtil.isFileExists(clubBookFilePath);
+        if (isJournalUsable && changes.isEmpty()) {
+            return;
+        }
+        if (!isJournalUsable || journalSize >= compactionThreshold) {
+            // stays pending until a rewrite succeeds, as these changes will not be in the journal
+            isCompactionPending = true;
+            saveClubBook(clubBook, clubBookFilePath);
+            return;
+        }
+
+        try {
+            FileUtil.appendToFile(getJournalFilePath(clubBookFilePath),
+                    JsonUtil.toCompactJsonString(new JsonClubBookDelta(changes)) + System.lineSeparator());
+        } catch (IOException ioe) {
+            isCompactionPending = true;
+            throw ioe;
+        }
+        journalSize++;
+    }
+
+    /**
+     * Returns the path of the journal kept beside the data file at {@code clubBookFilePath}.
+     */
+    public static Path getJournalFilePath(Path clubBookFilePath) {
+        return clubBookFilePath.resolveSibling(clubBookFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private List<Path> getBackupFilePaths(Path clubBookFilePath) {
+        List<Path> backupFilePaths = new ArrayList<>();
+        for (int i = 1; i <= backupCount; i++) {
+            String backupFileName = clubBookFilePath.getFileName() + BACKUP_FILE_SUFFIX + i;
+            backupFilePaths.add(clubBookFilePath.resolveSibling(backupFileName));
+        }
+        return backupFilePaths;
+    }
+
+    /**
+     * Shifts the journals of the backups at {@code backupFilePaths} one place down the list, in step with
+     * {@link FileUtil#rotateBackups(Path, List)}, leaving the most recent backup without a journal.
+     */
+    private static void rotateBackupJournals(List<Path> backupFilePaths) throws IOException {
+        for (int i = backupFilePaths.size() - 1; i > 0; i--) {
+            if (!Files.exists(backupFilePaths.get(i - 1))) {
+                // the backup it would replace is kept, so its journal is kept too
+                continue;
+            }
+            Path journalFilePath = getJournalFilePath(backupFilePaths.get(i - 1));
+            Path targetFilePath = getJournalFilePath(backupFilePaths.get(i));
+            if (Files.exists(journalFilePath)) {
+                Files.move(journalFilePath, targetFilePath, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(targetFilePath);
+            }
+        }
+        Files.deleteIfExists(getJournalFilePath(backupFilePaths.get(0)));
+    }
+
+    /**
+     * Returns the entries of the journal at {@code journalFilePath}, which has none if there is no journal.
+     * An unreadable last entry is skipped, as it is the remains of a save that was cut short.
+     *
+     * @throws DataLoadingException if the journal could not be read.
+     */
+    private static Journal readJournal(Path journalFilePath) throws DataLoadingException {
+        List<JsonClubBookDelta> entries = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return new Journal(entries, false);
+        }
+
+        String contents;
+        try {
+            contents = Files.readString(journalFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        // every complete entry ends with a line separator, which is written last
+        boolean isIncomplete = !contents.isEmpty() && !contents.endsWith("\n");
+        List<String> lines = contents.lines().toList();
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), JsonClubBookDelta.class));
+            } catch (IOException ioe) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading entry " + (i + 1) + " of journal file " + journalFilePath);
+                    throw new DataLoadingException(ioe);
+                }
+                logger.warning("Skipping incomplete last entry of journal file " + journalFilePath);
+                isIncomplete = true;
+            }
+        }
+        return new Journal(entries, isIncomplete);
+    }
+
+    /**
+     * The entries read from a journal.
+     */
+    private static class Journal {
+        private final List<JsonClubBookDelta> entries;
+        /** The journal ends with an entry that was cut short, which new entries must not be appended to. */
+        private final boolean isIncomplete;
+
+        private Journal(List<JsonClubBookDelta> entries, boolean isIncomplete) {
+            this.entries = entries;
+            this.isIncomplete = isIncomplete;
+        }
     }
 
 }
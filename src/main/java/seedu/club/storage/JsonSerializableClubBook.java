@@ -1,7 +1,11 @@
 package seedu.club.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -27,6 +31,9 @@ class JsonSerializableClubBook {
     public static final String MESSAGE_INVALID_MEMBER_EVENT_ROLES = "Member '%s' has invalid event roles: \n%s.";
     public static final String MESSAGE_INVALID_EVENT_ROLE_WITH_REASON = "'%s' — %s";
 
+    /** Number of members from which they are converted in parallel by {@link #toModelType()}. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 1000;
+
     private final List<JsonAdaptedMember> members = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
 
@@ -50,22 +57,86 @@ class JsonSerializableClubBook {
         events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Applies the journalled {@code deltas} on top of this club book, in order.
+     * Updated members and events replace those of the same name, or are appended if there are none.
+     *
+     * @throws IllegalValueException if this club book already contains duplicate members or events.
+     */
+    public void applyDeltas(List<JsonClubBookDelta> deltas) throws IllegalValueException {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<String, JsonAdaptedMember> membersByName = indexByName(members, JsonAdaptedMember::getName,
+                MESSAGE_DUPLICATE_MEMBER);
+        Map<String, JsonAdaptedEvent> eventsByName = indexByName(events, JsonAdaptedEvent::getName,
+                MESSAGE_DUPLICATE_EVENT);
+        for (JsonClubBookDelta delta : deltas) {
+            delta.getRemovedMembers().forEach(name -> membersByName.remove(toNameKey(name)));
+            delta.getMembers().forEach(member -> membersByName.put(toNameKey(member.getName()), member));
+            delta.getRemovedEvents().forEach(name -> eventsByName.remove(toNameKey(name)));
+            delta.getEvents().forEach(event -> eventsByName.put(toNameKey(event.getName()), event));
+        }
+
+        members.clear();
+        members.addAll(membersByName.values());
+        events.clear();
+        events.addAll(eventsByName.values());
+    }
+
+    private static <T> Map<String, T> indexByName(List<T> items, Function<T, String> nameExtractor,
+                                                  String duplicateMessage) throws IllegalValueException {
+        Map<String, T> itemsByName = new LinkedHashMap<>();
+        for (T item : items) {
+            if (itemsByName.put(toNameKey(nameExtractor.apply(item)), item) != null) {
+                throw new IllegalValueException(duplicateMessage);
+            }
+        }
+        return itemsByName;
+    }
+
+    /**
+     * Returns the key under which {@code name} is indexed, matching names case-insensitively like {@link Name}.
+     */
+    private static String toNameKey(String name) {
+        return name == null ? null : name.toLowerCase();
+    }
+
     /**
      * Converts this club book into the model's {@code ClubBook} object.
+     * Members are converted in parallel if there are at least {@value #PARALLEL_CONVERSION_THRESHOLD} of them.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ClubBook toModelType() throws IllegalValueException {
+        return toModelType(members.size() >= PARALLEL_CONVERSION_THRESHOLD);
+    }
+
+    /**
+     * Converts this club book into the model's {@code ClubBook} object.
+     * The members are kept in their original order, and the same error is reported for invalid data,
+     * whether or not they are converted in parallel.
+     *
+     * @param isConvertingInParallel whether to convert and validate the members concurrently.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ClubBook toModelType(boolean isConvertingInParallel) throws IllegalValueException {
         ClubBook clubBook = new ClubBook();
-        for (JsonAdaptedMember jsonAdaptedMember : members) {
-            Member member = jsonAdaptedMember.toModelType();
+        Map<String, Member> membersByName = new HashMap<>();
+        List<ConvertedMember> convertedMembers = (isConvertingInParallel ? members.parallelStream() : members.stream())
+                .map(ConvertedMember::new)
+                .collect(Collectors.toList());
+        for (ConvertedMember convertedMember : convertedMembers) {
+            Member member = convertedMember.get();
             if (clubBook.hasMember(member)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MEMBER);
             }
             clubBook.addMember(member);
+            membersByName.put(member.getName().toString(), member);
         }
         for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType(clubBook.getMemberList());
+            Event event = jsonAdaptedEvent.toModelType(membersByName);
             if (clubBook.hasEvent(event)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
             }
@@ -77,7 +148,6 @@ class JsonSerializableClubBook {
     }
 
     private static void checkInvalidMemberEventRoles(ClubBook clubBook) throws IllegalValueException {
-        List<Event> events = clubBook.getEventList();
         for (Member member : clubBook.getMemberList()) {
             List<String> invalidRoleMessages = new ArrayList<>();
 
@@ -85,8 +155,7 @@ class JsonSerializableClubBook {
                 Name assignedEventName = er.getAssignedTo();
 
                 // Check 1: Event does not exist
-                Event assignedEvent = events.stream().filter(e -> e.getName().equals(assignedEventName))
-                        .findFirst().orElse(null);
+                Event assignedEvent = clubBook.findEvent(assignedEventName).orElse(null);
 
                 if (assignedEvent == null) {
                     invalidRoleMessages.add(String.format(MESSAGE_INVALID_EVENT_ROLE_WITH_REASON,
@@ -95,8 +164,7 @@ class JsonSerializableClubBook {
                 }
 
                 // Check 2: Member not in event roster
-                boolean isMemberInEventRoster = assignedEvent.getRoster().stream()
-                        .anyMatch(m -> m.equals(member));
+                boolean isMemberInEventRoster = assignedEvent.getRoster().contains(member);
 
                 if (!isMemberInEventRoster) {
                     invalidRoleMessages.add(String.format(MESSAGE_INVALID_EVENT_ROLE_WITH_REASON,
@@ -107,7 +175,7 @@ class JsonSerializableClubBook {
                 if (er.isParticipant()) {
                     continue;
                 }
-                boolean isRoleInEvent = assignedEvent.getRoles().stream().anyMatch(role -> role.equals(er));
+                boolean isRoleInEvent = assignedEvent.getRoles().contains(er);
 
                 if (!isRoleInEvent) {
                     invalidRoleMessages.add(String.format(MESSAGE_INVALID_EVENT_ROLE_WITH_REASON,
@@ -123,4 +191,32 @@ class JsonSerializableClubBook {
             }
         }
     }
+
+    /**
+     * The outcome of converting a {@code JsonAdaptedMember}, holding on to any error so that it can be reported
+     * in the members' original order.
+     */
+    private static class ConvertedMember {
+        private final Member member;
+        private final IllegalValueException error;
+
+        ConvertedMember(JsonAdaptedMember jsonAdaptedMember) {
+            Member convertedMember = null;
+            IllegalValueException conversionError = null;
+            try {
+                convertedMember = jsonAdaptedMember.toModelType();
+            } catch (IllegalValueException ive) {
+                conversionError = ive;
+            }
+            this.member = convertedMember;
+            this.error = conversionError;
+        }
+
+        Member get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return member;
+        }
+    }
 }
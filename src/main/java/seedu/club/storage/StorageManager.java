@@ -2,11 +2,13 @@ package seedu.club.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.club.commons.core.LogsCenter;
 import seedu.club.commons.exceptions.DataLoadingException;
+import seedu.club.model.ClubBookChanges;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.ReadOnlyUserPrefs;
 import seedu.club.model.UserPrefs;
@@ -19,13 +21,25 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private final ClubBookStorage clubBookStorage;
     private final UserPrefsStorage userPrefsStorage;
+    private final BackgroundClubBookWriter backgroundWriter;
 
     /**
      * Creates a {@code StorageManager} with the given {@code ClubBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(ClubBookStorage clubBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(clubBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code ClubBookStorage} and {@code UserPrefStorage}.
+     * If {@code isSavingInBackground} is true, club book changes are saved on a background thread, and a failure
+     * to save them is reported by the next save instead.
+     */
+    public StorageManager(ClubBookStorage clubBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isSavingInBackground) {
         this.clubBookStorage = clubBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backgroundWriter = isSavingInBackground ? new BackgroundClubBookWriter(clubBookStorage) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -51,6 +65,11 @@ public class StorageManager implements Storage {
         return clubBookStorage.getClubBookFilePath();
     }
 
+    @Override
+    public List<Path> getClubBookBackupFilePaths() {
+        return clubBookStorage.getClubBookBackupFilePaths();
+    }
+
     @Override
     public Optional<ReadOnlyClubBook> readClubBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
@@ -65,6 +84,10 @@ public class StorageManager implements Storage {
     @Override
     public void saveClubBook(ReadOnlyClubBook clubBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        if (backgroundWriter != null) {
+            // Lets pending background saves finish first, so that they do not overwrite this one
+            backgroundWriter.flush();
+        }
         clubBookStorage.saveClubBook(clubBook, filePath);
     }
 
@@ -72,4 +95,20 @@ public class StorageManager implements Storage {
     public void saveClubBook(ReadOnlyClubBook clubBook) throws IOException {
         saveClubBook(clubBook, clubBookStorage.getClubBookFilePath());
     }
+
+    @Override
+    public void saveClubBookChanges(ReadOnlyClubBook clubBook, ClubBookChanges changes) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + clubBookStorage.getClubBookFilePath());
+        if (backgroundWriter == null) {
+            clubBookStorage.saveClubBookChanges(clubBook, changes);
+            return;
+        }
+
+        // Only failures of earlier saves are reported, as these changes may not have been saved yet either way
+        try {
+            backgroundWriter.rethrowFailure();
+        } finally {
+            backgroundWriter.submit(clubBook, changes);
+        }
+    }
 }
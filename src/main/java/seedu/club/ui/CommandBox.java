@@ -1,12 +1,13 @@
 package seedu.club.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.club.logic.commands.CommandResult;
-import seedu.club.logic.commands.exceptions.CommandException;
-import seedu.club.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -17,10 +18,14 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private boolean isDisabled;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -33,20 +38,38 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command box shows that it is busy, and cannot be edited, until the command has finished running.
      */
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || busyIndicator.isVisible()) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        setBusy(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, failure) -> {
+            setBusy(false);
+            if (failure == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows that the command box is busy from now on, and stops it from taking any more commands,
+     * such as while the app is closing.
+     */
+    public void disable() {
+        isDisabled = true;
+        setBusy(true);
+    }
+
+    private void setBusy(boolean isBusy) {
+        busyIndicator.setVisible(isBusy || isDisabled);
+        commandTextField.setEditable(!isBusy && !isDisabled);
     }
 
     /**
@@ -75,11 +98,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its future result, which is completed on the
+         * JavaFX application thread, either with the result or with the exception that made the command fail.
          *
-         * @see seedu.club.logic.Logic#execute(String)
+         * @see seedu.club.logic.CommandExecutionService#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -1,21 +1,21 @@
 package seedu.club.ui;
 
-import java.util.Comparator;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.club.logic.parser.ParserUtil;
-import seedu.club.model.event.Event;
+import seedu.club.logic.DisplayedEvent;
 
 /**
- * A UI component that displays information of a {@code Event}.
+ * A UI component that displays information of a {@code DisplayedEvent}.
  */
 public class EventCard extends UiPart<Region> {
 
     private static final String FXML = "EventListCard.fxml";
+    private static final String VACANT_ROLE_TEXT = "vacant";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -25,7 +25,7 @@ public class EventCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Event event;
+    public final DisplayedEvent event;
 
     @FXML
     private HBox cardPane;
@@ -43,22 +43,43 @@ public class EventCard extends UiPart<Region> {
     private FlowPane eventRoles;
 
     /**
-     * Creates a {@code EventCode} with the given {@code Event} and index to display.
+     * Creates a {@code EventCode} with the given {@code DisplayedEvent} and index to display.
      */
-    public EventCard(Event event, int displayedIndex) {
+    public EventCard(DisplayedEvent event, int displayedIndex) {
         super(FXML);
         this.event = event;
         id.setText(displayedIndex + ". ");
         if (displayedIndex == -1) {
             id.setText("");
         }
-        name.setText(event.getName().fullName.replace('\\', '/'));
-        from.setText("From: " + ParserUtil.formatDateTime(event.getFrom()));
-        to.setText("To: " + ParserUtil.formatDateTime(event.getTo()));
+        name.setText(event.getName().replace('\\', '/'));
+        from.setText("From: " + event.getFrom());
+        to.setText("To: " + event.getTo());
         details.setText("Details: " + event.getDetail().replaceAll("\\\\", "/"));
-        event.getRoles().stream()
-                .sorted(Comparator.comparing(eventRole -> eventRole.roleName))
-                .forEach(eventRole -> eventRoles.getChildren().add(new Label(eventRole.roleName)));
+        event.getRoleNames().forEach(roleName -> eventRoles.getChildren().add(new Label(roleName)));
+    }
+
+    /**
+     * Shows the members holding each role of the event alongside the role, for when the event is displayed on its own.
+     * The event must have been copied with the holders of its roles.
+     */
+    public void showRoleHolders() {
+        List<String> roleNames = event.getRoleNames();
+        List<List<String>> roleHolderNames = event.getRoleHolderNames();
+        assert roleHolderNames.size() == roleNames.size();
+
+        eventRoles.getChildren().clear();
+        for (int i = 0; i < roleNames.size(); i++) {
+            String roleHolders = formatRoleHolders(roleHolderNames.get(i));
+            eventRoles.getChildren().add(new Label(roleNames.get(i) + ": " + roleHolders));
+        }
+    }
+
+    private static String formatRoleHolders(List<String> roleHolderNames) {
+        if (roleHolderNames.isEmpty()) {
+            return VACANT_ROLE_TEXT;
+        }
+        return String.join(", ", roleHolderNames);
     }
 
     public void setEventRoles(FlowPane eventRoles) {
@@ -0,0 +1,89 @@
+package seedu.club.ui;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import seedu.club.logic.DisplayedEvent;
+
+/**
+ * A {@code ListCell} that displays the information of a {@code DisplayedEvent}.
+ * The nodes of the cell are built once, without FXML, and are only updated when the cell is given an event with
+ * different details or a different index, so that scrolling through a long list creates few objects.
+ */
+public class EventListCell extends ListCell<DisplayedEvent> {
+
+    private final HBox cardPane = new HBox();
+    private final Label id = new Label();
+    private final Label name = new Label();
+    private final Label from = new Label();
+    private final Label to = new Label();
+    private final Label details = new Label();
+    private final FlowPane eventRoles = new FlowPane();
+
+    private DisplayedEvent boundEvent;
+    private int boundIndex = -1;
+
+    /**
+     * Creates an {@code EventListCell}, laid out and styled in the same way as the other cards of the app.
+     */
+    public EventListCell() {
+        cardPane.setId("cardPane");
+        id.getStyleClass().add("cell_big_label");
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        id.setAlignment(Pos.TOP_LEFT);
+        name.getStyleClass().add("cell_big_label");
+        name.setAlignment(Pos.TOP_LEFT);
+        name.setWrapText(true);
+        eventRoles.setId("eventRoles");
+        for (Label smallLabel : new Label[] {from, to, details}) {
+            smallLabel.getStyleClass().add("cell_small_label");
+            smallLabel.setWrapText(true);
+            smallLabel.setPadding(new Insets(2, 0, 0, 0));
+        }
+
+        HBox title = new HBox(0.5, id, name);
+        VBox information = new VBox(title, eventRoles, from, to, details);
+        information.setAlignment(Pos.CENTER_LEFT);
+        information.setMinHeight(105);
+        information.setPadding(new Insets(5, 5, 5, 15));
+        VBox.setVgrow(details, Priority.ALWAYS);
+        HBox.setHgrow(information, Priority.ALWAYS);
+        cardPane.getChildren().add(information);
+    }
+
+    @Override
+    protected void updateItem(DisplayedEvent event, boolean empty) {
+        super.updateItem(event, empty);
+
+        if (empty || event == null) {
+            boundEvent = null;
+            setGraphic(null);
+            setText(null);
+            return;
+        }
+
+        // an event is published again after every command, usually with the same details
+        if (!event.equals(boundEvent) || getIndex() != boundIndex) {
+            bind(event);
+        }
+        setGraphic(cardPane);
+    }
+
+    private void bind(DisplayedEvent event) {
+        boundEvent = event;
+        boundIndex = getIndex();
+
+        id.setText(boundIndex + 1 + ". ");
+        name.setText(event.getName().replace('\\', '/'));
+        from.setText("From: " + event.getFrom());
+        to.setText("To: " + event.getTo());
+        details.setText("Details: " + event.getDetail().replaceAll("\\\\", "/"));
+        RoleChips.show(eventRoles, event.getRoleNames());
+    }
+}
@@ -4,11 +4,10 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.club.commons.core.LogsCenter;
-import seedu.club.model.event.Event;
+import seedu.club.logic.DisplayedEvent;
 
 /**
  * Panel containing the list of events.
@@ -18,32 +17,14 @@ public class EventListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(EventListPanel.class);
 
     @FXML
-    private ListView<Event> eventListView;
+    private ListView<DisplayedEvent> eventListView;
 
     /**
      * Creates a {@code EventListPanel} with the given {@code ObservableList}.
      */
-    public EventListPanel(ObservableList<Event> eventList) {
+    public EventListPanel(ObservableList<DisplayedEvent> eventList) {
         super(FXML);
         eventListView.setItems(eventList);
-        eventListView.setCellFactory(listView -> new EventListViewCell());
+        eventListView.setCellFactory(listView -> new EventListCell());
     }
-
-    /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Event} using a {@code EventCard}.
-     */
-    class EventListViewCell extends ListCell<Event> {
-        @Override
-        protected void updateItem(Event event, boolean empty) {
-            super.updateItem(event, empty);
-
-            if (empty || event == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
-            }
-        }
-    }
-
 }
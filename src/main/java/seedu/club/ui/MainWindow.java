@@ -1,7 +1,10 @@
 package seedu.club.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -13,13 +16,12 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.club.commons.core.GuiSettings;
 import seedu.club.commons.core.LogsCenter;
+import seedu.club.logic.CommandExecutionService;
+import seedu.club.logic.DisplayedEvent;
+import seedu.club.logic.DisplayedMember;
 import seedu.club.logic.Logic;
 import seedu.club.logic.commands.CommandResult;
-import seedu.club.logic.commands.exceptions.CommandException;
-import seedu.club.logic.parser.exceptions.ParseException;
 import seedu.club.model.ViewState;
-import seedu.club.model.event.Event;
-import seedu.club.model.member.Member;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -29,15 +31,20 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    /** Longest time to wait on exit for the commands already sent to finish executing. */
+    private static final long EXIT_TIMEOUT_SECONDS = 10;
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandExecutionService commandExecutionService;
 
     // Independent Ui parts residing in this Ui container
     private MemberListPanel memberListPanel;
     private EventListPanel eventListPanel;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private SingleEventPanel singleEventPanel;
     private HelpWindow helpWindow;
 
@@ -116,8 +123,10 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        memberListPanel = new MemberListPanel(logic.getFilteredMemberList());
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        // commands run off the JavaFX application thread, which only ever sees the lists published to it
+        commandExecutionService = new CommandExecutionService(logic, Platform::runLater);
+        memberListPanel = new MemberListPanel(commandExecutionService.getDisplayedMemberList());
+        eventListPanel = new EventListPanel(commandExecutionService.getDisplayedEventList());
         singleEventPanel = new SingleEventPanel();
         mainListPanelPlaceholder.getChildren().addAll(
                 memberListPanel.getRoot(), eventListPanel.getRoot(), singleEventPanel.getRoot());
@@ -133,7 +142,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getClubBookStorageFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -166,15 +175,25 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Closes the application.
+     * Closes the application once the commands already sent have finished executing, or have taken too long to.
      */
     @FXML
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
-        primaryStage.hide();
+        // waits for the commands already sent, so that none of them changes the model while it is saved on stopping,
+        // while the window stays responsive and shows that it is busy
+        commandBox.disable();
+        commandExecutionService.shutdown().copy()
+                .orTimeout(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .whenCompleteAsync((unused, failure) -> {
+                    if (failure != null) {
+                        logger.warning("Closing before the commands already sent have finished executing");
+                    }
+                    helpWindow.hide();
+                    primaryStage.hide();
+                }, Platform::runLater);
     }
 
     public MemberListPanel getMemberListPanel() {
@@ -182,13 +201,19 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns its future result, which is completed on the
+     * JavaFX application thread after the window has been updated with it.
      *
-     * @see seedu.club.logic.Logic#execute(String)
+     * @see CommandExecutionService#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandExecutionService.execute(commandText).whenComplete((commandResult, failure) -> {
+            if (failure != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(failure.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -200,15 +225,16 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            if (logic.getViewState().equals(ViewState.EVENT)) {
+            ViewState viewState = commandExecutionService.getDisplayedViewState();
+            if (viewState.equals(ViewState.EVENT)) {
                 //displays event list
                 memberListPanel.getRoot().setVisible(false);
                 eventListPanel.getRoot().setVisible(true);
                 singleEventPanel.getRoot().setVisible(false);
-            } else if (logic.getViewState().equals(ViewState.SINGLE_EVENT)) {
+            } else if (viewState.equals(ViewState.SINGLE_EVENT)) {
                 //displays single event with participating members
-                Event selectedEvent = logic.getFilteredEventList().get(0);
-                ObservableList<Member> participants = logic.getFilteredMemberList();
+                DisplayedEvent selectedEvent = commandExecutionService.getDisplayedEventList().get(0);
+                ObservableList<DisplayedMember> participants = commandExecutionService.getDisplayedMemberList();
 
                 singleEventPanel.update(selectedEvent, participants);
 
@@ -221,12 +247,6 @@ public class MainWindow extends UiPart<Stage> {
                 eventListPanel.getRoot().setVisible(false);
                 singleEventPanel.getRoot().setVisible(false);
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
@@ -0,0 +1,89 @@
+package seedu.club.ui;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import seedu.club.logic.DisplayedMember;
+
+/**
+ * A {@code ListCell} that displays the information of a {@code DisplayedMember}.
+ * The nodes of the cell are built once, without FXML, and are only updated when the cell is given a member with
+ * different details or a different index, so that scrolling through a long list creates few objects.
+ */
+public class MemberListCell extends ListCell<DisplayedMember> {
+
+    private final HBox cardPane = new HBox();
+    private final Label id = new Label();
+    private final Label name = new Label();
+    private final Label phone = new Label();
+    private final Label email = new Label();
+    private final FlowPane memberRoles = new FlowPane();
+    private final FlowPane eventRoles = new FlowPane();
+
+    private DisplayedMember boundMember;
+    private int boundIndex = -1;
+
+    /**
+     * Creates a {@code MemberListCell}, laid out and styled in the same way as the other cards of the app.
+     */
+    public MemberListCell() {
+        cardPane.setId("cardPane");
+        id.getStyleClass().add("cell_big_label");
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        name.getStyleClass().add("cell_big_label");
+        name.setWrapText(true);
+        memberRoles.setId("memberRoles");
+        eventRoles.setId("eventRoles");
+        eventRoles.setPadding(new Insets(4, 0, 0, 0));
+        phone.getStyleClass().add("cell_small_label");
+        phone.setPadding(new Insets(2, 0, 0, 0));
+        email.getStyleClass().add("cell_small_label");
+        email.setWrapText(true);
+
+        HBox title = new HBox(0.5, id, name);
+        VBox details = new VBox(title, memberRoles, eventRoles, phone, email);
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(105);
+        details.setPadding(new Insets(5, 5, 5, 15));
+        HBox.setHgrow(details, Priority.ALWAYS);
+        cardPane.getChildren().add(details);
+    }
+
+    @Override
+    protected void updateItem(DisplayedMember member, boolean empty) {
+        super.updateItem(member, empty);
+
+        if (empty || member == null) {
+            boundMember = null;
+            setGraphic(null);
+            setText(null);
+            return;
+        }
+
+        // a member is published again after every command, usually with the same details
+        if (!member.equals(boundMember) || getIndex() != boundIndex) {
+            bind(member);
+        }
+        setGraphic(cardPane);
+    }
+
+    private void bind(DisplayedMember member) {
+        boundMember = member;
+        boundIndex = getIndex();
+
+        id.setText(boundIndex + 1 + ". ");
+        name.setText(member.getName().replace('\\', '/'));
+        phone.setText(member.getPhone());
+        email.setText(member.getEmail());
+        RoleChips.show(memberRoles, member.getMemberRoles());
+        RoleChips.show(eventRoles, member.getEventRoles().stream()
+                .map(eventRole -> eventRole.replace('\\', '/'))
+                .toList());
+    }
+}
@@ -4,11 +4,10 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.club.commons.core.LogsCenter;
-import seedu.club.model.member.Member;
+import seedu.club.logic.DisplayedMember;
 
 /**
  * Panel containing the list of members.
@@ -18,32 +17,14 @@ public class MemberListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(MemberListPanel.class);
 
     @FXML
-    private ListView<Member> memberListView;
+    private ListView<DisplayedMember> memberListView;
 
     /**
      * Creates a {@code MemberListPanel} with the given {@code ObservableList}.
      */
-    public MemberListPanel(ObservableList<Member> memberList) {
+    public MemberListPanel(ObservableList<DisplayedMember> memberList) {
         super(FXML);
         memberListView.setItems(memberList);
-        memberListView.setCellFactory(listView -> new MemberListViewCell());
+        memberListView.setCellFactory(listView -> new MemberListCell());
     }
-
-    /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Member} using a {@code MemberCard}.
-     */
-    class MemberListViewCell extends ListCell<Member> {
-        @Override
-        protected void updateItem(Member member, boolean empty) {
-            super.updateItem(member, empty);
-
-            if (empty || member == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new MemberCard(member, getIndex() + 1).getRoot());
-            }
-        }
-    }
-
 }
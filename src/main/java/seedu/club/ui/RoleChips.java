@@ -0,0 +1,35 @@
+package seedu.club.ui;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+
+/**
+ * Shows role names as labels in a {@code FlowPane}, reusing the labels already in it so that a list cell showing
+ * a different item only creates labels when it needs more of them than it has ever shown.
+ */
+final class RoleChips {
+
+    private RoleChips() {}
+
+    /**
+     * Makes the labels in {@code chipPane} show {@code chipTexts}, in order.
+     * {@code chipPane} must hold nothing but labels.
+     */
+    static void show(FlowPane chipPane, List<String> chipTexts) {
+        ObservableList<Node> chips = chipPane.getChildren();
+        for (int i = 0; i < chipTexts.size(); i++) {
+            if (i < chips.size()) {
+                ((Label) chips.get(i)).setText(chipTexts.get(i));
+            } else {
+                chips.add(new Label(chipTexts.get(i)));
+            }
+        }
+        if (chips.size() > chipTexts.size()) {
+            chips.remove(chipTexts.size(), chips.size());
+        }
+    }
+}
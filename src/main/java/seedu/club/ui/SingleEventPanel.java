@@ -4,13 +4,12 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import seedu.club.commons.core.LogsCenter;
-import seedu.club.model.event.Event;
-import seedu.club.model.member.Member;
+import seedu.club.logic.DisplayedEvent;
+import seedu.club.logic.DisplayedMember;
 
 /**
  * Panel containing single event and a list of members participating in the event.
@@ -23,39 +22,27 @@ public class SingleEventPanel extends UiPart<Region> {
     private StackPane eventCard;
 
     @FXML
-    private ListView<Member> memberListView;
-
-    public SingleEventPanel() {
-        super(FXML);
-    }
+    private ListView<DisplayedMember> memberListView;
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Member} using a {@code MemberCard}.
+     * Creates a {@code SingleEventPanel} with no event shown yet.
      */
-    class MemberListViewCell extends ListCell<Member> {
-        @Override
-        protected void updateItem(Member member, boolean empty) {
-            super.updateItem(member, empty);
-
-            if (empty || member == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new MemberCard(member, getIndex() + 1).getRoot());
-            }
-        }
+    public SingleEventPanel() {
+        super(FXML);
+        memberListView.setCellFactory(listView -> new MemberListCell());
     }
 
     /**
      * Updates {@code EventCard} and {@code ObservableList} with the
-     * given {@code Event} and {@code ObservableList}
+     * given {@code Event} and {@code ObservableList}, showing the members holding each role of the event.
      */
-    public void update(Event event, ObservableList<Member> memberList) {
+    public void update(DisplayedEvent event, ObservableList<DisplayedMember> memberList) {
         memberListView.setItems(memberList);
-        memberListView.setCellFactory(listView -> new MemberListViewCell());
         eventCard.getChildren().clear();
-        Region eventCardRoot = new EventCard(event, -1).getRoot();
-        eventCard.getChildren().add(new EventCard(event, -1).getRoot());
+        EventCard card = new EventCard(event, -1);
+        card.showRoleHolders();
+        Region eventCardRoot = card.getRoot();
+        eventCard.getChildren().add(eventCardRoot);
         eventCardRoot.applyCss();
     }
 }
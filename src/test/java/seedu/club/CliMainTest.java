@@ -0,0 +1,99 @@
+package seedu.club;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.club.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.club.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.club.logic.LogicManager;
+import seedu.club.logic.Messages;
+import seedu.club.logic.commands.event.ListEventCommand;
+import seedu.club.logic.commands.general.ExitCommand;
+import seedu.club.logic.commands.member.AddMemberCommand;
+import seedu.club.logic.commands.member.ListMemberCommand;
+import seedu.club.model.Model;
+import seedu.club.model.ModelManager;
+import seedu.club.storage.JsonClubBookStorage;
+import seedu.club.storage.JsonUserPrefsStorage;
+import seedu.club.storage.StorageManager;
+
+public class CliMainTest {
+
+    private static final String ADD_AMY_COMMAND = AddMemberCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final Model model = new ModelManager();
+    private CliMain cliMain;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonClubBookStorage(temporaryFolder.resolve("clubbook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        cliMain = new CliMain(new LogicManager(model, storage), new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    @Test
+    public void run_validCommands_printsFeedbackOfEach() throws IOException {
+        String commands = ADD_AMY_COMMAND + "\n"
+                + "\n"
+                + "# comments and blank lines are skipped\n"
+                + "   " + ListEventCommand.COMMAND_WORD + "   \n";
+
+        assertEquals(0, run(commands, false));
+        assertEquals(1, model.getClubBook().getMemberList().size());
+        String addedMessage = String.format(AddMemberCommand.MESSAGE_SUCCESS,
+                Messages.format(model.getClubBook().getMemberList().get(0))).replace('\\', '/');
+        assertEquals(addedMessage + System.lineSeparator() + ListEventCommand.MESSAGE_EMPTY_LIST
+                + System.lineSeparator(), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_failingCommand_printsErrorWithLineNumberAndContinues() throws IOException {
+        String commands = "notACommand\n" + ListEventCommand.COMMAND_WORD + "\n";
+
+        assertEquals(CliMain.EXIT_STATUS_COMMAND_FAILED, run(commands, false));
+        assertEquals(ListEventCommand.MESSAGE_EMPTY_LIST + System.lineSeparator(), out.toString());
+        assertEquals(String.format(CliMain.MESSAGE_COMMAND_FAILED, 1, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator(), err.toString());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws IOException {
+        String commands = ExitCommand.COMMAND_WORD + "\n" + ADD_AMY_COMMAND + "\n";
+
+        assertEquals(0, run(commands, false));
+        assertEquals(0, model.getClubBook().getMemberList().size());
+    }
+
+    @Test
+    public void run_interactive_printsPromptBeforeEachLine() throws IOException {
+        String commands = ListMemberCommand.COMMAND_WORD + "\n" + "notACommand\n";
+
+        assertEquals(CliMain.EXIT_STATUS_COMMAND_FAILED, run(commands, true));
+        assertEquals(CliMain.PROMPT + ListMemberCommand.MESSAGE_EMPTY_LIST + System.lineSeparator()
+                + CliMain.PROMPT + CliMain.PROMPT, out.toString());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), err.toString());
+    }
+
+    private int run(String commands, boolean isInteractive) throws IOException {
+        return cliMain.run(new BufferedReader(new StringReader(commands)), isInteractive);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.club.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.club.commons.util.CollectionUtil.requireAllNonNull;
@@ -9,6 +10,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +84,25 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicateKeys() {
+        // null arguments
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicateKeys(null, Function.identity()));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicateKeys(List.of("a"), null));
+
+        // no duplicates
+        assertTrue(CollectionUtil.findDuplicateKeys(Collections.emptyList(), Function.identity()).isEmpty());
+        assertTrue(CollectionUtil.findDuplicateKeys(List.of("a", "b", "c"), Function.identity()).isEmpty());
+
+        // every repeated key is reported once, in the order it was first repeated
+        assertEquals(List.of("b", "a"), List.copyOf(CollectionUtil.findDuplicateKeys(
+                List.of("a", "b", "b", "a", "b", "c"), Function.identity())));
+
+        // keys are compared using the extracted value rather than the element itself
+        assertEquals(List.of("a"), List.copyOf(CollectionUtil.findDuplicateKeys(
+                List.of("A", "a", "B"), String::toLowerCase)));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,13 +1,23 @@
 package seedu.club.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.club.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,36 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContentsWithoutLeavingTempFile() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+
+        FileUtil.writeToFileAtomically(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    public void rotateBackups_existingBackups_shiftedAndOldestDiscarded() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        List<Path> backups = List.of(testFolder.resolve("data.json.bak1"), testFolder.resolve("data.json.bak2"));
+
+        // nothing to back up yet
+        FileUtil.rotateBackups(file, backups);
+        assertFalse(Files.exists(backups.get(0)));
+
+        for (String contents : List.of("first", "second", "third")) {
+            FileUtil.writeToFileAtomically(file, contents);
+            FileUtil.rotateBackups(file, backups);
+        }
+        FileUtil.writeToFileAtomically(file, "fourth");
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(backups.get(0)));
+        assertEquals("second", FileUtil.readFromFile(backups.get(1)));
+    }
+
 }
@@ -1,8 +1,11 @@
 package seedu.club.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -39,6 +42,21 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void writeJson_notPrettyPrinted_writesSingleLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtil.writeJson(out, serializableTestClass, false);
+        String json = out.toString(StandardCharsets.UTF_8);
+
+        assertFalse(json.contains("\n"));
+        SerializableTestClass readBack = JsonUtil.fromJsonString(json, SerializableTestClass.class);
+        assertEquals(readBack.getName(), SerializableTestClass.getNameTestValue());
+        assertEquals(readBack.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
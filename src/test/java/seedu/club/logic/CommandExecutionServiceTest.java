@@ -0,0 +1,172 @@
+package seedu.club.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.club.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.club.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.club.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.club.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.club.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.club.testutil.TypicalMembers.AMY;
+
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.club.logic.commands.CommandResult;
+import seedu.club.logic.commands.event.ListEventCommand;
+import seedu.club.logic.commands.member.AddMemberCommand;
+import seedu.club.logic.commands.member.DeleteMemberCommand;
+import seedu.club.logic.commands.member.EditMemberCommand;
+import seedu.club.logic.commands.member.ListMemberCommand;
+import seedu.club.logic.parser.exceptions.ParseException;
+import seedu.club.model.ModelManager;
+import seedu.club.model.ViewState;
+import seedu.club.model.member.Member;
+import seedu.club.storage.JsonClubBookStorage;
+import seedu.club.storage.JsonUserPrefsStorage;
+import seedu.club.storage.StorageManager;
+import seedu.club.testutil.MemberBuilder;
+
+public class CommandExecutionServiceTest {
+
+    private static final String ADD_AMY_COMMAND = AddMemberCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY;
+    private static final String ADD_BOB_COMMAND = AddMemberCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+            + EMAIL_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    /** Updates published by the service, run by the tests when they choose to. */
+    private final BlockingQueue<Runnable> publishedUpdates = new LinkedBlockingQueue<>();
+    private CommandExecutionService service;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonClubBookStorage(temporaryFolder.resolve("clubbook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        service = new CommandExecutionService(new LogicManager(new ModelManager(), storage), publishedUpdates::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void execute_validCommand_publishesListsBeforeResult() throws Exception {
+        CompletableFuture<CommandResult> futureResult = service.execute(ADD_AMY_COMMAND);
+
+        Runnable update = takePublishedUpdate();
+        assertTrue(service.getDisplayedMemberList().isEmpty());
+        assertFalse(futureResult.isDone());
+
+        update.run();
+        assertEquals(1, service.getDisplayedMemberList().size());
+        Member addedMember = new MemberBuilder(AMY).withMemberRoles().build();
+        assertEquals(new DisplayedMember(addedMember), service.getDisplayedMemberList().get(0));
+        assertTrue(futureResult.isDone());
+        assertEquals(String.format(AddMemberCommand.MESSAGE_SUCCESS, Messages.format(addedMember)).replace('\\', '/'),
+                futureResult.get().getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidCommand_completesWithParseException() throws Exception {
+        CompletableFuture<CommandResult> futureResult = service.execute("notACommand");
+        takePublishedUpdate().run();
+
+        ExecutionException executionException = assertThrows(ExecutionException.class, futureResult::get);
+        assertTrue(executionException.getCause() instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, executionException.getCause().getMessage());
+    }
+
+    @Test
+    public void execute_severalCommands_runsThemInOrder() throws Exception {
+        CompletableFuture<CommandResult> firstResult = service.execute(ADD_AMY_COMMAND);
+        CompletableFuture<CommandResult> secondResult = service.execute(ListEventCommand.COMMAND_WORD);
+
+        takePublishedUpdate().run();
+        assertTrue(firstResult.isDone());
+        assertEquals(ViewState.MEMBER, service.getDisplayedViewState());
+
+        takePublishedUpdate().run();
+        assertEquals(ListEventCommand.MESSAGE_EMPTY_LIST, secondResult.get().getFeedbackToUser());
+        assertEquals(ViewState.EVENT, service.getDisplayedViewState());
+        assertEquals(1, service.getDisplayedMemberList().size());
+    }
+
+    @Test
+    public void execute_commandsChangingSomeMembers_copiesOfOthersKept() throws Exception {
+        executeAndPublish(ADD_AMY_COMMAND);
+        executeAndPublish(ADD_BOB_COMMAND);
+        DisplayedMember amy = service.getDisplayedMemberList().get(0);
+        DisplayedMember bob = service.getDisplayedMemberList().get(1);
+
+        executeAndPublish(EditMemberCommand.COMMAND_WORD + " 2" + PHONE_DESC_AMY);
+        assertSame(amy, service.getDisplayedMemberList().get(0));
+        assertNotSame(bob, service.getDisplayedMemberList().get(1));
+        assertEquals(VALID_PHONE_AMY, service.getDisplayedMemberList().get(1).getPhone());
+
+        bob = service.getDisplayedMemberList().get(1);
+        executeAndPublish(DeleteMemberCommand.COMMAND_WORD + " 1");
+        assertEquals(1, service.getDisplayedMemberList().size());
+        assertSame(bob, service.getDisplayedMemberList().get(0));
+    }
+
+    @Test
+    public void execute_commandsNotChangingDisplayedMembers_copiesKept() throws Exception {
+        executeAndPublish(ADD_AMY_COMMAND);
+        DisplayedMember amy = service.getDisplayedMemberList().get(0);
+
+        executeAndPublish(ListMemberCommand.COMMAND_WORD);
+        executeAndPublish("notACommand");
+        assertEquals(1, service.getDisplayedMemberList().size());
+        assertSame(amy, service.getDisplayedMemberList().get(0));
+    }
+
+    @Test
+    public void shutdown_commandsSubmitted_completedAfterTheirUpdates() throws Exception {
+        service.execute(ADD_AMY_COMMAND);
+        service.execute(ListEventCommand.COMMAND_WORD);
+        CompletableFuture<Void> futureShutdown = service.shutdown();
+
+        takePublishedUpdate().run();
+        takePublishedUpdate().run();
+        assertFalse(futureShutdown.isDone());
+        takePublishedUpdate().run();
+        assertTrue(futureShutdown.isDone());
+        assertSame(futureShutdown, service.shutdown());
+    }
+
+    /**
+     * Executes {@code commandText} and runs the update published after it.
+     */
+    private void executeAndPublish(String commandText) throws InterruptedException {
+        CompletableFuture<CommandResult> futureResult = service.execute(commandText);
+        takePublishedUpdate().run();
+        assertTrue(futureResult.isDone());
+    }
+
+    private Runnable takePublishedUpdate() throws InterruptedException {
+        Runnable update = publishedUpdates.poll(10, TimeUnit.SECONDS);
+        assertNotNull(update, "No update was published.");
+        return update;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.club.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.club.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.club.model.event.Event;
+import seedu.club.model.member.Member;
+import seedu.club.testutil.EventBuilder;
+import seedu.club.testutil.MemberBuilder;
+
+public class DisplayedEventTest {
+
+    private static final Member USHER_BOB = new MemberBuilder().withName("Bob Choo")
+            .withEventRoles(EventBuilder.DEFAULT_NAME, "Usher").build();
+    private static final Member USHER_AMY = new MemberBuilder()
+            .withEventRoles(EventBuilder.DEFAULT_NAME, "Usher").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DisplayedEvent(null, true));
+    }
+
+    @Test
+    public void constructor_withoutRoleHolders_copiesDetailsWithRolesInOrder() {
+        DisplayedEvent displayedEvent = new DisplayedEvent(createEvent(), false);
+        assertEquals(EventBuilder.DEFAULT_NAME, displayedEvent.getName());
+        assertEquals(EventBuilder.DEFAULT_DETAIL, displayedEvent.getDetail());
+        assertEquals(List.of("Emcee", "Usher"), displayedEvent.getRoleNames());
+        assertEquals(List.of(), displayedEvent.getRoleHolderNames());
+    }
+
+    @Test
+    public void constructor_withRoleHolders_copiesRoleHolderNamesInOrder() {
+        DisplayedEvent displayedEvent = new DisplayedEvent(createEvent(), true);
+        assertEquals(List.of(List.of(), List.of(MemberBuilder.DEFAULT_NAME, "Bob Choo")),
+                displayedEvent.getRoleHolderNames());
+    }
+
+    @Test
+    public void constructor_eventChangedAfterwards_keepsCopiedRoleHolders() {
+        Event event = createEvent();
+        DisplayedEvent displayedEvent = new DisplayedEvent(event, true);
+
+        event.removeMemberFromRoster(USHER_BOB);
+        assertEquals(List.of(List.of(), List.of(MemberBuilder.DEFAULT_NAME, "Bob Choo")),
+                displayedEvent.getRoleHolderNames());
+        assertFalse(displayedEvent.equals(new DisplayedEvent(event, true)));
+    }
+
+    @Test
+    public void equals() {
+        DisplayedEvent displayedEvent = new DisplayedEvent(createEvent(), true);
+
+        // same values -> returns true
+        assertTrue(displayedEvent.equals(new DisplayedEvent(createEvent(), true)));
+
+        // same object -> returns true
+        assertTrue(displayedEvent.equals(displayedEvent));
+
+        // null -> returns false
+        assertFalse(displayedEvent.equals(null));
+
+        // different types -> returns false
+        assertFalse(displayedEvent.equals(createEvent()));
+
+        // role holders not copied -> returns false
+        assertFalse(displayedEvent.equals(new DisplayedEvent(createEvent(), false)));
+
+        // different detail -> returns false
+        Event otherEvent = new EventBuilder(createEvent()).withDetail("Bring water").build();
+        assertFalse(displayedEvent.equals(new DisplayedEvent(otherEvent, true)));
+    }
+
+    private static Event createEvent() {
+        return new EventBuilder().withEventRoles("Usher", "Emcee").withRoster(Set.of(USHER_BOB, USHER_AMY)).build();
+    }
+}
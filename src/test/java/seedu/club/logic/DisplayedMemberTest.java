@@ -0,0 +1,69 @@
+package seedu.club.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.club.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.club.model.member.Member;
+import seedu.club.testutil.MemberBuilder;
+
+public class DisplayedMemberTest {
+
+    private static final Member MEMBER = new MemberBuilder().withMemberRoles("Treasurer", "President")
+            .withEventRoles("Orientation", "Usher", "Emcee").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DisplayedMember(null));
+    }
+
+    @Test
+    public void constructor_member_copiesDetailsWithRolesInOrder() {
+        DisplayedMember displayedMember = new DisplayedMember(MEMBER);
+        assertEquals(MemberBuilder.DEFAULT_NAME, displayedMember.getName());
+        assertEquals(MemberBuilder.DEFAULT_PHONE, displayedMember.getPhone());
+        assertEquals(MemberBuilder.DEFAULT_EMAIL, displayedMember.getEmail());
+        assertEquals(List.of("President", "Treasurer"), displayedMember.getMemberRoles());
+        assertEquals(List.of("Orientation>Emcee", "Orientation>Usher"), displayedMember.getEventRoles());
+    }
+
+    @Test
+    public void constructor_memberChangedAfterwards_keepsCopiedDetails() {
+        Member member = new MemberBuilder(MEMBER).build();
+        DisplayedMember displayedMember = new DisplayedMember(member);
+
+        member.setEventRoles(Set.of());
+        assertEquals(List.of("Orientation>Emcee", "Orientation>Usher"), displayedMember.getEventRoles());
+        assertFalse(displayedMember.equals(new DisplayedMember(member)));
+    }
+
+    @Test
+    public void equals() {
+        DisplayedMember displayedMember = new DisplayedMember(MEMBER);
+
+        // same values -> returns true
+        assertTrue(displayedMember.equals(new DisplayedMember(new MemberBuilder(MEMBER).build())));
+
+        // same object -> returns true
+        assertTrue(displayedMember.equals(displayedMember));
+
+        // null -> returns false
+        assertFalse(displayedMember.equals(null));
+
+        // different types -> returns false
+        assertFalse(displayedMember.equals(MEMBER));
+
+        // different phone -> returns false
+        Member otherMember = new MemberBuilder(MEMBER).withPhone("91234567").build();
+        assertFalse(displayedMember.equals(new DisplayedMember(otherMember)));
+
+        // different member roles -> returns false
+        assertFalse(displayedMember.equals(new DisplayedMember(new MemberBuilder(MEMBER).withMemberRoles().build())));
+    }
+}
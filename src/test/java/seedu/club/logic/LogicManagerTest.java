@@ -1,20 +1,28 @@
 package seedu.club.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.club.logic.Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX;
 import static seedu.club.logic.Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX;
 import static seedu.club.logic.Messages.MESSAGE_NOT_EVENT_STATE;
 import static seedu.club.logic.Messages.MESSAGE_NOT_MEMBER_STATE;
 import static seedu.club.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.club.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.club.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.club.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.club.testutil.Assert.assertThrows;
 import static seedu.club.testutil.TypicalMembers.AMY;
+import static seedu.club.testutil.TypicalMembers.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,9 +31,12 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.club.logic.commands.CommandResult;
 import seedu.club.logic.commands.event.ListEventCommand;
 import seedu.club.logic.commands.exceptions.CommandException;
+import seedu.club.logic.commands.general.RunScriptCommand;
+import seedu.club.logic.commands.general.UndoCommand;
 import seedu.club.logic.commands.member.AddMemberCommand;
 import seedu.club.logic.commands.member.ListMemberCommand;
 import seedu.club.logic.parser.exceptions.ParseException;
+import seedu.club.model.ClubBookChanges;
 import seedu.club.model.Model;
 import seedu.club.model.ModelManager;
 import seedu.club.model.ReadOnlyClubBook;
@@ -83,6 +94,22 @@ public class LogicManagerTest {
         assertCommandSuccess(listEventCommand, ListEventCommand.MESSAGE_EMPTY_LIST, model);
     }
 
+    @Test
+    public void getLatestClubBookChanges_afterCommands_returnsChangesOfLatestCommand() throws Exception {
+        assertTrue(logic.getLatestClubBookChanges().isEmpty());
+
+        // the first changes of a new club book replace the whole of it
+        logic.execute(AddMemberCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertTrue(logic.getLatestClubBookChanges().isReset());
+
+        logic.execute(AddMemberCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB);
+        assertEquals(List.of(new MemberBuilder(BOB).withMemberRoles().build()),
+                logic.getLatestClubBookChanges().getUpdatedMembers());
+
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertTrue(logic.getLatestClubBookChanges().isEmpty());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -158,6 +185,104 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    @Test
+    public void execute_runScript_savesOnce() throws Exception {
+        int[] saveCount = new int[1];
+        logic = new LogicManager(model, createSaveCountingStorage(saveCount));
+
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(
+                AddMemberCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY,
+                AddMemberCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB));
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addMember(new MemberBuilder(AMY).withMemberRoles().build());
+        expectedModel.addMember(new MemberBuilder(BOB).withMemberRoles().build());
+        assertCommandSuccess(RunScriptCommand.COMMAND_WORD + " " + scriptPath,
+                String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, scriptPath), expectedModel);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_commandsWithoutChanges_notCommittedOrSaved() throws Exception {
+        int[] saveCount = new int[1];
+        logic = new LogicManager(model, createSaveCountingStorage(saveCount));
+        logic.execute(AddMemberCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        logic.execute(AddMemberCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB);
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(3, saveCount[0]);
+
+        assertThrows(CommandException.class, () -> logic.execute("deleteMember 9"));
+        logic.execute(ListMemberCommand.COMMAND_WORD);
+        assertEquals(3, saveCount[0]);
+
+        // the undone step can still be redone, and the step before it is the next to be undone
+        assertTrue(model.canRedoClubBook());
+        model.undoClubBook();
+        assertEquals(new ModelManager(), model);
+        assertFalse(model.canUndoClubBook());
+    }
+
+    @Test
+    public void execute_commandThrowsRuntimeException_changesCommittedAndSaved() {
+        int[] saveCount = new int[1];
+        Model failingModel = createModelFailingAfterAdding(AMY);
+        logic = new LogicManager(failingModel, createSaveCountingStorage(saveCount));
+
+        assertThrows(IllegalStateException.class, () -> logic.execute(
+                AddMemberCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY));
+        assertEquals(1, saveCount[0]);
+        assertTrue(failingModel.canUndoClubBook());
+    }
+
+    @Test
+    public void execute_scriptThrowsRuntimeException_changesRolledBack() throws Exception {
+        int[] saveCount = new int[1];
+        Model failingModel = createModelFailingAfterAdding(BOB);
+        logic = new LogicManager(failingModel, createSaveCountingStorage(saveCount));
+
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(
+                AddMemberCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY,
+                AddMemberCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB));
+
+        assertThrows(IllegalStateException.class, () -> logic.execute(
+                RunScriptCommand.COMMAND_WORD + " " + scriptPath));
+        assertEquals(new ModelManager(), failingModel);
+        assertFalse(failingModel.canUndoClubBook());
+    }
+
+    /**
+     * Returns a model that throws an {@code IllegalStateException} once it has added a member with the same name as
+     * {@code failingMember}, as a bug in a command might.
+     */
+    private static Model createModelFailingAfterAdding(Member failingMember) {
+        return new ModelManager() {
+            @Override
+            public void addMember(Member member) {
+                super.addMember(member);
+                if (member.isSameMember(failingMember)) {
+                    throw new IllegalStateException("dummy failure");
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a storage that saves to the temporary folder and counts the saves of club book changes in
+     * {@code saveCount}.
+     */
+    private StorageManager createSaveCountingStorage(int[] saveCount) {
+        return new StorageManager(new JsonClubBookStorage(temporaryFolder.resolve("clubbook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public void saveClubBookChanges(ReadOnlyClubBook clubBook, ClubBookChanges changes) throws IOException {
+                saveCount[0]++;
+                super.saveClubBookChanges(clubBook, changes);
+            }
+        };
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
@@ -21,6 +21,7 @@ import seedu.club.model.ModelManager;
 import seedu.club.model.UserPrefs;
 import seedu.club.model.ViewState;
 import seedu.club.model.event.Event;
+import seedu.club.testutil.EventBuilder;
 
 public class DisplayEventCommandTest {
     private Model model;
@@ -83,6 +84,25 @@ public class DisplayEventCommandTest {
         );
     }
 
+    @Test
+    public void execute_eventWithVacantRoles_listsVacantRoles() {
+        Event eventWithVacancies = new EventBuilder().withName("Concert").withEventRoles("Usher", "Emcee").build();
+        model.addEvent(eventWithVacancies);
+        expectedModel.addEvent(eventWithVacancies);
+        Index lastIndex = Index.fromOneBased(model.getFilteredEventList().size());
+
+        model.setViewState(ViewState.EVENT);
+        expectedModel.setViewState(ViewState.SINGLE_EVENT);
+        expectedModel.updateFilteredEventList(e -> e.equals(eventWithVacancies));
+        expectedModel.updateFilteredMemberList(m -> eventWithVacancies.getRoster().contains(m));
+
+        String expectedMessage = String.format(DisplayEventCommand.MESSAGE_DISPLAY_EVENT_SUCCESS,
+                eventWithVacancies.getName()) + "\n" + String.format(DisplayEventCommand.MESSAGE_VACANT_ROLES,
+                "Emcee, Usher");
+        CommandTestUtil.assertCommandSuccess(new DisplayEventCommand(lastIndex), model, expectedMessage,
+                expectedModel);
+    }
+
     @Test
     public void execute_invalidIndexFilteredList_throwsCommandException() {
         showEventAtIndex(model, INDEX_FIRST_EVENT);
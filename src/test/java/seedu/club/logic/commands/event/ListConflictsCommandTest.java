@@ -0,0 +1,58 @@
+package seedu.club.logic.commands.event;
+
+import static seedu.club.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.club.testutil.TypicalClubBook.ALICE;
+import static seedu.club.testutil.TypicalClubBook.ORIENTATION;
+import static seedu.club.testutil.TypicalClubBook.WORKSHOP;
+import static seedu.club.testutil.TypicalClubBook.getTypicalClubBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.club.model.Model;
+import seedu.club.model.ModelManager;
+import seedu.club.model.UserPrefs;
+import seedu.club.model.ViewState;
+import seedu.club.model.event.Event;
+import seedu.club.model.member.Member;
+import seedu.club.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListConflictsCommand}.
+ */
+public class ListConflictsCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalClubBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noOverlappingEvents_showsNoConflictsMessage() {
+        Model expectedModel = new ModelManager(model.getClubBook(), new UserPrefs());
+        assertCommandSuccess(new ListConflictsCommand(), model, ListConflictsCommand.MESSAGE_NO_CONFLICTS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_memberInOverlappingEvents_listsConflictAndEvents() {
+        Member alice = model.findMemberByName(ALICE.getName()).get();
+        Event orientation = model.findEventByName(ORIENTATION.getName()).get();
+        Event workshop = new EventBuilder(WORKSHOP).build();
+        model.addEvent(workshop);
+        model.addToRoster(workshop, alice);
+
+        Model expectedModel = new ModelManager(model.getClubBook(), new UserPrefs());
+        expectedModel.setViewState(ViewState.EVENT);
+        expectedModel.updateFilteredEventList(Set.of(workshop, orientation)::contains);
+
+        String expectedMessage = String.format(ListConflictsCommand.MESSAGE_SUCCESS, 1,
+                String.format(ListConflictsCommand.MESSAGE_CONFLICT, alice.getName(), workshop.getName(),
+                        orientation.getName()));
+        assertCommandSuccess(new ListConflictsCommand(), model, expectedMessage, expectedModel);
+    }
+}
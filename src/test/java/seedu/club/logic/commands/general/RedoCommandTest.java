@@ -0,0 +1,38 @@
+package seedu.club.logic.commands.general;
+
+import static seedu.club.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.club.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.club.testutil.TypicalClubBook.ALICE;
+import static seedu.club.testutil.TypicalClubBook.getTypicalClubBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.club.model.Model;
+import seedu.club.model.ModelManager;
+import seedu.club.model.UserPrefs;
+import seedu.club.model.member.Member;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RedoCommand}.
+ */
+public class RedoCommandTest {
+
+    @Test
+    public void execute_noCommandToRedo_failure() {
+        assertCommandFailure(new RedoCommand(), new ModelManager(), RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneCommand_repeatsCommand() {
+        Model model = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        Member alice = model.findMemberByName(ALICE.getName()).get();
+        model.deleteMember(alice);
+        model.commitClubBook();
+        model.undoClubBook();
+
+        Model expectedModel = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        expectedModel.deleteMember(expectedModel.findMemberByName(ALICE.getName()).get());
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.club.logic.commands.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.club.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.club.testutil.Assert.assertThrows;
+import static seedu.club.testutil.TypicalMembers.AMY;
+import static seedu.club.testutil.TypicalMembers.BOB;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.club.commons.core.index.Index;
+import seedu.club.logic.Messages;
+import seedu.club.logic.commands.exceptions.CommandException;
+import seedu.club.logic.commands.general.RunScriptCommand.ScriptLine;
+import seedu.club.logic.commands.member.AddMemberCommand;
+import seedu.club.logic.commands.member.DeleteMemberCommand;
+import seedu.club.logic.commands.member.FindMemberCommand;
+import seedu.club.model.Model;
+import seedu.club.model.ModelManager;
+import seedu.club.model.name.NameContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code RunScriptCommand}.
+ */
+public class RunScriptCommandTest {
+
+    private static final Path SCRIPT_PATH = Paths.get("script.txt");
+
+    private static final ScriptLine ADD_AMY = new ScriptLine(1, "addMember Amy", new AddMemberCommand(AMY));
+    private static final ScriptLine ADD_BOB = new ScriptLine(2, "addMember Bob", new AddMemberCommand(BOB));
+    private static final ScriptLine DELETE_INVALID = new ScriptLine(4, "deleteMember 9",
+            new DeleteMemberCommand(Index.fromOneBased(9)));
+
+    @Test
+    public void execute_allCommandsSucceed_runsCommands() {
+        Model model = new ModelManager();
+        ScriptLine findAmy = new ScriptLine(3, "findMember Amy", new FindMemberCommand(
+                new NameContainsKeywordsPredicate<>(List.of("Amy"))));
+        RunScriptCommand command = new RunScriptCommand(SCRIPT_PATH, List.of(ADD_AMY, ADD_BOB, findAmy), false);
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addMember(AMY);
+        expectedModel.addMember(BOB);
+        expectedModel.updateFilteredMemberList(member -> member.equals(AMY));
+        assertCommandSuccess(command, model, String.format(RunScriptCommand.MESSAGE_SUCCESS, 3, SCRIPT_PATH),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_undoesScript() {
+        Model model = new ModelManager();
+        RunScriptCommand command = new RunScriptCommand(SCRIPT_PATH, List.of(ADD_AMY, ADD_BOB, DELETE_INVALID),
+                false);
+
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_COMMAND_FAILED, 4, SCRIPT_PATH,
+                Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX, RunScriptCommand.MESSAGE_CHANGES_ROLLED_BACK);
+        assertThrows(CommandException.class, expectedMessage, () ->
+                command.execute(model));
+        assertFalse(model.hasMember(AMY));
+        assertFalse(model.hasMember(BOB));
+
+        // the undone script is not left behind in the undo history
+        model.commitClubBook();
+        assertFalse(model.canUndoClubBook());
+    }
+
+    @Test
+    public void execute_commandFailsKeepingChanges_keepsEarlierCommands() {
+        Model model = new ModelManager();
+        RunScriptCommand command = new RunScriptCommand(SCRIPT_PATH, List.of(ADD_AMY, ADD_BOB, DELETE_INVALID),
+                true);
+
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_COMMAND_FAILED, 4, SCRIPT_PATH,
+                Messages.MESSAGE_INVALID_MEMBER_DISPLAYED_INDEX,
+                String.format(RunScriptCommand.MESSAGE_CHANGES_KEPT, 2));
+        assertThrows(CommandException.class, expectedMessage, () ->
+                command.execute(model));
+        assertTrue(model.hasMember(AMY));
+        assertTrue(model.hasMember(BOB));
+        assertEquals(2, model.getFilteredMemberList().size());
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand command = new RunScriptCommand(SCRIPT_PATH, List.of(ADD_AMY, ADD_BOB), false);
+
+        // same values -> returns true
+        assertTrue(command.equals(new RunScriptCommand(Paths.get("script.txt"),
+                List.of(new ScriptLine(1, "addMember Amy", new AddMemberCommand(AMY)), ADD_BOB), false)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different path -> returns false
+        assertFalse(command.equals(new RunScriptCommand(Paths.get("other.txt"), List.of(ADD_AMY, ADD_BOB), false)));
+
+        // different lines -> returns false
+        assertFalse(command.equals(new RunScriptCommand(SCRIPT_PATH, List.of(ADD_AMY), false)));
+
+        // different failure handling -> returns false
+        assertFalse(command.equals(new RunScriptCommand(SCRIPT_PATH, List.of(ADD_AMY, ADD_BOB), true)));
+    }
+}
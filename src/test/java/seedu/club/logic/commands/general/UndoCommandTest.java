@@ -0,0 +1,48 @@
+package seedu.club.logic.commands.general;
+
+import static seedu.club.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.club.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.club.testutil.TypicalClubBook.ALICE;
+import static seedu.club.testutil.TypicalClubBook.getTypicalClubBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.club.model.ClubBook;
+import seedu.club.model.Model;
+import seedu.club.model.ModelManager;
+import seedu.club.model.UserPrefs;
+import seedu.club.model.ViewState;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UndoCommand}.
+ */
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noCommandToUndo_failure() {
+        assertCommandFailure(new UndoCommand(), new ModelManager(), UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_clearedClubBook_restoresClubBook() {
+        Model model = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        model.setClubBook(new ClubBook());
+        model.commitClubBook();
+
+        Model expectedModel = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_singleEventView_showsEventList() {
+        Model model = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        model.deleteMember(model.findMemberByName(ALICE.getName()).get());
+        model.commitClubBook();
+        model.setViewState(ViewState.SINGLE_EVENT);
+
+        Model expectedModel = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        expectedModel.setViewState(ViewState.EVENT);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
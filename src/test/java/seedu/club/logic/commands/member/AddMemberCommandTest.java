@@ -10,6 +10,9 @@ import static seedu.club.testutil.TypicalClubBook.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,13 +23,20 @@ import seedu.club.logic.Messages;
 import seedu.club.logic.commands.CommandResult;
 import seedu.club.logic.commands.exceptions.CommandException;
 import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookChanges;
 import seedu.club.model.Model;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.ReadOnlyUserPrefs;
 import seedu.club.model.ViewState;
+import seedu.club.model.event.DateTime;
 import seedu.club.model.event.Event;
+import seedu.club.model.event.ScheduleConflict;
+import seedu.club.model.member.Email;
 import seedu.club.model.member.Member;
+import seedu.club.model.member.Phone;
 import seedu.club.model.name.Name;
+import seedu.club.model.role.EventRole;
+import seedu.club.model.role.MemberRole;
 import seedu.club.testutil.MemberBuilder;
 
 /**
@@ -167,6 +177,11 @@ public class AddMemberCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setMemberEventRoles(Member member, Set<EventRole> eventRoles) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Member> getFilteredMemberList() {
             throw new AssertionError("This method should not be called.");
@@ -203,7 +218,7 @@ public class AddMemberCommandTest {
         }
 
         @Override
-        public int memberNameIndex(Name name) {
+        public Optional<Member> findMemberByName(Name name) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -212,13 +227,108 @@ public class AddMemberCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ClubBookChanges pollClubBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitClubBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoClubBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoClubBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoClubBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoClubBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardClubBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deferFilteredListUpdates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyDeferredFilteredListUpdates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addToRoster(Event event, Member member) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeFromRoster(Event event, Member member) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateMemberAndEventList(Event eventToBeDisplayed) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public int eventNameIndex(Name name) {
+        public Optional<Event> findEventByName(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Name> findMemberNamesContainingAnyOf(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Name> findMemberNamesWithPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Name> findMemberNamesWithEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Name> findMemberNamesWithRole(MemberRole role) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Name> findEventNamesContainingAnyOf(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> findEventsBetween(DateTime start, DateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> findConflictingEvents(Member member, Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduleConflict> findScheduleConflicts() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -4,22 +4,29 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.club.logic.Messages.MESSAGE_MEMBERS_LISTED_OVERVIEW;
+import static seedu.club.testutil.TypicalClubBook.ALICE;
+import static seedu.club.testutil.TypicalClubBook.BENSON;
 import static seedu.club.testutil.TypicalClubBook.CARL;
+import static seedu.club.testutil.TypicalClubBook.DANIEL;
 import static seedu.club.testutil.TypicalClubBook.ELLE;
 import static seedu.club.testutil.TypicalClubBook.FIONA;
 import static seedu.club.testutil.TypicalClubBook.getTypicalClubBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.club.logic.commands.CommandTestUtil;
+import seedu.club.logic.commands.member.FindMemberCommand.FindMemberDescriptor;
 import seedu.club.model.Model;
 import seedu.club.model.ModelManager;
 import seedu.club.model.UserPrefs;
 import seedu.club.model.member.Member;
+import seedu.club.model.member.Phone;
 import seedu.club.model.name.NameContainsKeywordsPredicate;
+import seedu.club.model.role.MemberRole;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for {@code FindMemberCommand}.
@@ -53,6 +60,11 @@ public class FindMemberCommandTest {
 
         // different member -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different descriptor -> returns false
+        FindMemberDescriptor descriptor = new FindMemberDescriptor();
+        descriptor.setPhone(new Phone("91234567"));
+        assertFalse(findFirstCommand.equals(new FindMemberCommand(firstPredicate, descriptor)));
     }
 
     @Test
@@ -75,11 +87,40 @@ public class FindMemberCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredMemberList());
     }
 
+    @Test
+    public void execute_memberRoles_membersWithAnyRoleFound() {
+        String expectedMessage = String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 2);
+        FindMemberDescriptor descriptor = new FindMemberDescriptor();
+        descriptor.setRoles(Set.of(new MemberRole("president"), new MemberRole("Secretary")));
+        FindMemberCommand command = new FindMemberCommand(null, descriptor);
+        expectedModel.updateFilteredMemberList(Set.of(ALICE, DANIEL)::contains);
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredMemberList());
+    }
+
+    @Test
+    public void execute_keywordsAndEmail_membersMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 1);
+        FindMemberDescriptor descriptor = new FindMemberDescriptor();
+        descriptor.setEmail(BENSON.getEmail());
+        FindMemberCommand command = new FindMemberCommand(preparePredicate("Meier"), descriptor);
+        expectedModel.updateFilteredMemberList(BENSON::equals);
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredMemberList());
+
+        // keywords that no member with the email matches
+        expectedMessage = String.format(MESSAGE_MEMBERS_LISTED_OVERVIEW, 0);
+        command = new FindMemberCommand(preparePredicate("Kurz"), descriptor);
+        expectedModel.updateFilteredMemberList(unused -> false);
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate<Member> predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("keyword"));
         FindMemberCommand findMemberCommand = new FindMemberCommand(predicate);
-        String expected = FindMemberCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindMemberCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", findMemberDescriptor=" + new FindMemberDescriptor() + "}";
         assertEquals(expected, findMemberCommand.toString());
     }
 
@@ -0,0 +1,79 @@
+package seedu.club.logic.parser;
+
+import static seedu.club.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.club.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.club.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.club.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.club.logic.commands.general.ClearCommand;
+import seedu.club.logic.commands.general.RunScriptCommand;
+import seedu.club.logic.commands.general.RunScriptCommand.ScriptLine;
+import seedu.club.logic.commands.member.ListMemberCommand;
+
+public class RunScriptCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final RunScriptCommandParser parser = new RunScriptCommandParser(new ClubBookParser());
+
+    @Test
+    public void parse_validScript_returnsRunScriptCommand() throws IOException {
+        Path scriptPath = writeScript("# start afresh", "clear", "", "  listMembers  ");
+        List<ScriptLine> expectedLines = List.of(new ScriptLine(2, "clear", new ClearCommand()),
+                new ScriptLine(4, "listMembers", new ListMemberCommand()));
+
+        assertParseSuccess(parser, " " + scriptPath, new RunScriptCommand(scriptPath, expectedLines, false));
+
+        // keep changes on failure
+        assertParseSuccess(parser, " " + scriptPath + "  " + RunScriptCommand.KEEP_CHANGES_FLAG,
+                new RunScriptCommand(scriptPath, expectedLines, true));
+    }
+
+    @Test
+    public void parse_missingPath_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunScriptCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + scriptPath,
+                String.format(RunScriptCommandParser.MESSAGE_CANNOT_READ_SCRIPT, scriptPath));
+    }
+
+    @Test
+    public void parse_invalidCommandInScript_throwsParseException() throws IOException {
+        Path scriptPath = writeScript("clear", "notACommand");
+        assertParseFailure(parser, " " + scriptPath,
+                String.format(RunScriptCommandParser.MESSAGE_INVALID_SCRIPT_LINE, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_historyCommandInScript_throwsParseException() throws IOException {
+        Path scriptPath = writeScript("clear", "undo");
+        assertParseFailure(parser, " " + scriptPath,
+                String.format(RunScriptCommandParser.MESSAGE_COMMAND_NOT_ALLOWED, 2, "undo"));
+
+        // a script running itself
+        Path selfRunningScriptPath = temporaryFolder.resolve("self.txt");
+        Files.write(selfRunningScriptPath, List.of("RUN " + selfRunningScriptPath));
+        assertParseFailure(parser, " " + selfRunningScriptPath,
+                String.format(RunScriptCommandParser.MESSAGE_COMMAND_NOT_ALLOWED, 1, "RUN"));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptPath = Files.createTempFile(temporaryFolder, "script", ".txt");
+        Files.write(scriptPath, List.of(lines));
+        return scriptPath;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.club.logic.parser.event;
+
+import static seedu.club.logic.Messages.MESSAGE_END_BEFORE_START_DATE;
+import static seedu.club.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.club.logic.commands.CommandTestUtil.FROM_DESC_BEACHDAY;
+import static seedu.club.logic.commands.CommandTestUtil.FROM_DESC_ORIENTATION;
+import static seedu.club.logic.commands.CommandTestUtil.TO_DESC_BEACHDAY;
+import static seedu.club.logic.commands.CommandTestUtil.TO_DESC_ORIENTATION;
+import static seedu.club.logic.commands.CommandTestUtil.VALID_FROM_ORIENTATION;
+import static seedu.club.logic.commands.CommandTestUtil.VALID_TO_BEACHDAY;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.club.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.club.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.club.logic.commands.event.FindEventCommand;
+import seedu.club.model.event.DateTime;
+import seedu.club.model.name.NameContainsKeywordsPredicate;
+
+public class FindEventCommandParserTest {
+
+    private final FindEventCommandParser parser = new FindEventCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindEventCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validKeywords_returnsFindEventCommand() {
+        FindEventCommand expectedFindEventCommand =
+                new FindEventCommand(new NameContainsKeywordsPredicate<>(Arrays.asList("Orientation", "Movie")));
+        assertParseSuccess(parser, "Orientation Movie", expectedFindEventCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Orientation \n \t Movie  \t", expectedFindEventCommand);
+    }
+
+    @Test
+    public void parse_validPeriod_returnsFindEventCommand() {
+        FindEventCommand expectedFindEventCommand =
+                new FindEventCommand(new DateTime(VALID_FROM_ORIENTATION), new DateTime(VALID_TO_BEACHDAY));
+        assertParseSuccess(parser, FROM_DESC_ORIENTATION + TO_DESC_BEACHDAY, expectedFindEventCommand);
+
+        // prefixes in any order
+        assertParseSuccess(parser, TO_DESC_BEACHDAY + FROM_DESC_ORIENTATION, expectedFindEventCommand);
+    }
+
+    @Test
+    public void parse_invalidPeriod_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE);
+
+        // missing end of period
+        assertParseFailure(parser, FROM_DESC_ORIENTATION, expectedMessage);
+
+        // keywords together with a period
+        assertParseFailure(parser, " Orientation" + FROM_DESC_ORIENTATION + TO_DESC_BEACHDAY, expectedMessage);
+
+        // invalid date time
+        assertParseFailure(parser, " " + PREFIX_FROM + "151025" + TO_DESC_BEACHDAY, DateTime.MESSAGE_CONSTRAINTS);
+
+        // period ending before it starts
+        assertParseFailure(parser, FROM_DESC_BEACHDAY + TO_DESC_ORIENTATION, MESSAGE_END_BEFORE_START_DATE);
+    }
+}
@@ -1,15 +1,31 @@
 package seedu.club.logic.parser.member;
 
 import static seedu.club.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.club.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.club.logic.commands.CommandTestUtil.INVALID_PHONE_DESC;
+import static seedu.club.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.club.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.club.logic.commands.CommandTestUtil.VALID_MEMBER_ROLE_PRESIDENT;
+import static seedu.club.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.club.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.club.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.club.logic.Messages;
 import seedu.club.logic.commands.member.FindMemberCommand;
+import seedu.club.logic.commands.member.FindMemberCommand.FindMemberDescriptor;
+import seedu.club.model.member.Email;
+import seedu.club.model.member.Phone;
 import seedu.club.model.name.NameContainsKeywordsPredicate;
+import seedu.club.model.name.NameKeyword;
+import seedu.club.model.role.MemberRole;
 
 public class FindMemberCommandParserTest {
 
@@ -21,6 +37,12 @@ public class FindMemberCommandParserTest {
                 FindMemberCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_loneMarkerKeyword_throwsParseException() {
+        assertParseFailure(parser, "Alice *", NameKeyword.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "~", NameKeyword.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_validArgs_returnsFindMemberCommand() {
         // no leading and trailing whitespaces
@@ -30,6 +52,36 @@ public class FindMemberCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindMemberCommand);
+
+        // prefix and typo-tolerant keywords
+        expectedFindMemberCommand =
+                new FindMemberCommand(new NameContainsKeywordsPredicate<>(Arrays.asList("Ali*", "Bbo~")));
+        assertParseSuccess(parser, "Ali* Bbo~", expectedFindMemberCommand);
+    }
+
+    @Test
+    public void parse_fieldPrefixes_returnsFindMemberCommand() {
+        FindMemberDescriptor descriptor = new FindMemberDescriptor();
+        descriptor.setRoles(Set.of(new MemberRole(VALID_MEMBER_ROLE_PRESIDENT), new MemberRole("Secretary")));
+
+        // roles only
+        assertParseSuccess(parser, " " + PREFIX_ROLE + VALID_MEMBER_ROLE_PRESIDENT + " " + PREFIX_ROLE + "Secretary",
+                new FindMemberCommand(null, descriptor));
+
+        // keywords with phone and email
+        descriptor = new FindMemberDescriptor();
+        descriptor.setPhone(new Phone(VALID_PHONE_BOB));
+        descriptor.setEmail(new Email(VALID_EMAIL_BOB));
+        FindMemberCommand expectedFindMemberCommand = new FindMemberCommand(
+                new NameContainsKeywordsPredicate<>(Arrays.asList("Bob")), descriptor);
+        assertParseSuccess(parser, " Bob" + PHONE_DESC_BOB + EMAIL_DESC_BOB, expectedFindMemberCommand);
+    }
+
+    @Test
+    public void parse_invalidFieldPrefixes_throwsParseException() {
+        assertParseFailure(parser, INVALID_PHONE_DESC, Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, PHONE_DESC_AMY + PHONE_DESC_BOB,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PHONE));
     }
 
 }
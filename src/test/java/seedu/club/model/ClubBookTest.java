@@ -7,22 +7,34 @@ import static seedu.club.logic.commands.CommandTestUtil.VALID_EVENT_ROLE_FACILIT
 import static seedu.club.logic.commands.CommandTestUtil.VALID_MEMBER_ROLE_PRESIDENT;
 import static seedu.club.testutil.Assert.assertThrows;
 import static seedu.club.testutil.TypicalClubBook.ALICE;
+import static seedu.club.testutil.TypicalClubBook.BEACH_DAY;
+import static seedu.club.testutil.TypicalClubBook.BENSON;
+import static seedu.club.testutil.TypicalClubBook.MEETING;
+import static seedu.club.testutil.TypicalClubBook.MOVIE_NIGHT;
 import static seedu.club.testutil.TypicalClubBook.ORIENTATION;
+import static seedu.club.testutil.TypicalClubBook.WORKSHOP;
 import static seedu.club.testutil.TypicalClubBook.getTypicalClubBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.club.model.event.DateTime;
 import seedu.club.model.event.Event;
+import seedu.club.model.event.ScheduleConflict;
 import seedu.club.model.event.exceptions.DuplicateEventException;
 import seedu.club.model.member.Member;
 import seedu.club.model.member.exceptions.DuplicateMemberException;
+import seedu.club.model.member.exceptions.MemberNotFoundException;
+import seedu.club.model.name.Name;
+import seedu.club.model.role.EventRole;
 import seedu.club.testutil.EventBuilder;
 import seedu.club.testutil.MemberBuilder;
 
@@ -94,6 +106,218 @@ public class ClubBookTest {
         assertTrue(clubBook.hasMember(editedAlice));
     }
 
+    @Test
+    public void findMember_nameInDifferentCase_returnsMember() {
+        clubBook.addMember(ALICE);
+        assertEquals(Optional.of(ALICE), clubBook.findMember(new Name(ALICE.getName().fullName.toLowerCase())));
+    }
+
+    @Test
+    public void findMember_afterRemove_returnsEmpty() {
+        clubBook.addMember(ALICE);
+        clubBook.removeMember(ALICE);
+        assertEquals(Optional.empty(), clubBook.findMember(ALICE.getName()));
+    }
+
+    @Test
+    public void findEvent_afterRename_tracksEditedEvent() {
+        clubBook.addEvent(ORIENTATION);
+        Event renamedEvent = new EventBuilder(ORIENTATION).withName("Renamed Orientation").build();
+        clubBook.setEvent(ORIENTATION, renamedEvent);
+        assertEquals(Optional.empty(), clubBook.findEvent(ORIENTATION.getName()));
+        assertEquals(Optional.of(renamedEvent), clubBook.findEvent(renamedEvent.getName()));
+    }
+
+    @Test
+    public void findEventsBetween_typicalEvents_returnsOverlappingEventsInOrder() {
+        ClubBook typicalClubBook = getTypicalClubBook();
+        Event orientation = typicalClubBook.findEvent(ORIENTATION.getName()).get();
+        Event movieNight = typicalClubBook.findEvent(MOVIE_NIGHT.getName()).get();
+        Event beachDay = typicalClubBook.findEvent(BEACH_DAY.getName()).get();
+
+        // period within a single event
+        assertEquals(List.of(orientation), typicalClubBook.findEventsBetween(
+                new DateTime("161025 0000"), new DateTime("161025 2359")));
+
+        // period touching the ends of events
+        assertEquals(List.of(orientation, movieNight), typicalClubBook.findEventsBetween(
+                new DateTime("171025 1800"), new DateTime("201025 1800")));
+
+        // period covering every event
+        assertEquals(List.of(orientation, movieNight, beachDay), typicalClubBook.findEventsBetween(
+                new DateTime("010125 0000"), new DateTime("311225 2359")));
+
+        // period between events
+        assertEquals(List.of(), typicalClubBook.findEventsBetween(
+                new DateTime("211025 0000"), new DateTime("241025 2359")));
+    }
+
+    @Test
+    public void findEventsBetween_afterSetEvent_tracksEditedPeriod() {
+        clubBook.addEvent(ORIENTATION);
+        Event movedEvent = new EventBuilder(ORIENTATION).withFrom("011125 1200").withTo("011125 1800").build();
+        clubBook.setEvent(ORIENTATION, movedEvent);
+
+        assertEquals(List.of(), clubBook.findEventsBetween(ORIENTATION.getFrom(), ORIENTATION.getTo()));
+        assertEquals(List.of(movedEvent), clubBook.findEventsBetween(movedEvent.getFrom(), movedEvent.getTo()));
+
+        clubBook.removeEvent(movedEvent);
+        assertEquals(List.of(), clubBook.findEventsBetween(movedEvent.getFrom(), movedEvent.getTo()));
+    }
+
+    @Test
+    public void findConflictingEvents_overlappingEventsOfMember_returnsOverlappingEventsOnly() {
+        Member member = new MemberBuilder().build();
+        Event event = new EventBuilder().withName("Camp").withFrom("151025 1200").withTo("171025 1800").build();
+        Event overlappingEvent = new EventBuilder().withName("Talk").withFrom("151025 1000").withTo("151025 1300")
+                .build();
+        Event adjacentEvent = new EventBuilder().withName("Dinner").withFrom("171025 1800").withTo("171025 2000")
+                .build();
+        Event otherEvent = new EventBuilder().withName("Meeting").withFrom("161025 1500").withTo("161025 1600")
+                .build();
+        clubBook.addMember(member);
+        List.of(event, overlappingEvent, adjacentEvent, otherEvent).forEach(clubBook::addEvent);
+        clubBook.addToRoster(overlappingEvent, member);
+        clubBook.addToRoster(adjacentEvent, member);
+
+        // events the member is not assigned to, and events that only touch, do not conflict
+        assertEquals(List.of(overlappingEvent), clubBook.findConflictingEvents(member.getName(), event));
+
+        // an event does not conflict with itself
+        clubBook.addToRoster(event, member);
+        assertEquals(List.of(overlappingEvent), clubBook.findConflictingEvents(member.getName(), event));
+
+        clubBook.removeFromRoster(overlappingEvent, member);
+        assertEquals(List.of(), clubBook.findConflictingEvents(member.getName(), event));
+    }
+
+    @Test
+    public void findScheduleConflicts_overlappingEventsWithSharedMembers_reportsEachSharedMember() {
+        ClubBook typicalClubBook = getTypicalClubBook();
+        assertEquals(List.of(), typicalClubBook.findScheduleConflicts());
+
+        Member alice = typicalClubBook.findMember(ALICE.getName()).get();
+        Member benson = typicalClubBook.findMember(BENSON.getName()).get();
+        Event orientation = typicalClubBook.findEvent(ORIENTATION.getName()).get();
+        Event workshop = new EventBuilder(WORKSHOP).build();
+        Event meeting = new EventBuilder(MEETING).build();
+        typicalClubBook.addEvent(workshop);
+        typicalClubBook.addEvent(meeting);
+        typicalClubBook.addToRoster(workshop, alice);
+        typicalClubBook.addToRoster(meeting, alice);
+        typicalClubBook.addToRoster(meeting, benson);
+
+        // workshop ends before the meeting starts, and benson is only in one of the events
+        assertEquals(List.of(new ScheduleConflict(alice, workshop, orientation),
+                new ScheduleConflict(alice, orientation, meeting)), typicalClubBook.findScheduleConflicts());
+    }
+
+    @Test
+    public void addToRoster_memberAdded_indexesEvent() {
+        Member member = new MemberBuilder().build();
+        Event event = new EventBuilder().build();
+        clubBook.addMember(member);
+        clubBook.addEvent(event);
+
+        clubBook.addToRoster(event, member);
+        assertTrue(event.hasMember(member));
+        assertEquals(Set.of(event), clubBook.getEventsOfMember(member.getName()));
+
+        clubBook.removeFromRoster(event, member);
+        assertFalse(event.hasMember(member));
+        assertTrue(clubBook.getEventsOfMember(member.getName()).isEmpty());
+    }
+
+    @Test
+    public void setMember_memberInRoster_updatesOnlyAffectedRosters() {
+        Member member = new MemberBuilder().build();
+        Event attendedEvent = new EventBuilder().withRoster(Set.of(member)).build();
+        Event otherEvent = new EventBuilder().withName("Other Event").build();
+        clubBook.addMember(member);
+        clubBook.addEvent(attendedEvent);
+        clubBook.addEvent(otherEvent);
+
+        Member editedMember = new MemberBuilder(member).withName("Renamed Member").build();
+        clubBook.setMember(member, editedMember);
+
+        assertEquals(Set.of(editedMember), attendedEvent.getRoster());
+        assertTrue(otherEvent.getRoster().isEmpty());
+        assertTrue(clubBook.getEventsOfMember(member.getName()).isEmpty());
+        assertEquals(Set.of(attendedEvent), clubBook.getEventsOfMember(editedMember.getName()));
+    }
+
+    @Test
+    public void setMemberEventRoles_changedEventRoles_updatesRoleHolders() {
+        Member member = new MemberBuilder().build();
+        Event event = new EventBuilder().withEventRoles("usher").withRoster(Set.of(member)).build();
+        clubBook.addMember(member);
+        clubBook.addEvent(event);
+        EventRole usher = new EventRole("usher", event.getName());
+        assertEquals(0, event.countMembersWithRole(usher));
+
+        clubBook.setMemberEventRoles(member, Set.of(usher));
+        assertEquals(Set.of(usher), member.getEventRoles());
+        assertEquals(Set.of(member), event.getMembersWithRole(usher));
+    }
+
+    @Test
+    public void setMemberEventRoles_memberNotInClubBook_throwsMemberNotFoundException() {
+        assertThrows(MemberNotFoundException.class, () -> clubBook.setMemberEventRoles(ALICE, Set.of()));
+    }
+
+    @Test
+    public void removeMember_memberInRoster_removedFromRoster() {
+        Member member = new MemberBuilder().build();
+        Event event = new EventBuilder().withRoster(Set.of(member)).build();
+        clubBook.addMember(member);
+        clubBook.addEvent(event);
+
+        clubBook.removeMember(member);
+        assertTrue(event.getRoster().isEmpty());
+        assertTrue(clubBook.getEventsOfMember(member.getName()).isEmpty());
+    }
+
+    @Test
+    public void setEvent_eventWithRoster_reindexesEditedEvent() {
+        Member member = new MemberBuilder().build();
+        Event event = new EventBuilder().withRoster(Set.of(member)).build();
+        clubBook.addMember(member);
+        clubBook.addEvent(event);
+
+        Event editedEvent = new EventBuilder(event).withName("Renamed Event").build();
+        clubBook.setEvent(event, editedEvent);
+        assertEquals(Set.of(editedEvent), clubBook.getEventsOfMember(member.getName()));
+
+        clubBook.removeEvent(editedEvent);
+        assertTrue(clubBook.getEventsOfMember(member.getName()).isEmpty());
+    }
+
+    @Test
+    public void pollChanges_afterReset_reportsReset() {
+        clubBook.resetData(getTypicalClubBook());
+        assertTrue(clubBook.pollChanges().isReset());
+        assertTrue(clubBook.pollChanges().isEmpty());
+    }
+
+    @Test
+    public void pollChanges_afterEdits_reportsUpdatedAndRemovedEntities() {
+        Member member = new MemberBuilder().build();
+        Event event = new EventBuilder().withRoster(Set.of(member)).build();
+        clubBook.addMember(member);
+        clubBook.addEvent(event);
+        clubBook.pollChanges();
+
+        Member editedMember = new MemberBuilder(member).withName("Renamed Member").build();
+        clubBook.setMember(member, editedMember);
+        ClubBookChanges changes = clubBook.pollChanges();
+
+        assertFalse(changes.isReset());
+        assertEquals(List.of(editedMember), changes.getUpdatedMembers());
+        assertEquals(Set.of(member.getName()), changes.getRemovedMemberNames());
+        assertEquals(List.of(event), changes.getUpdatedEvents());
+        assertTrue(changes.getRemovedEventNames().isEmpty());
+    }
+
     @Test
     public void getMemberList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> clubBook.getMemberList().remove(0));
@@ -10,16 +10,23 @@ import static seedu.club.testutil.TypicalClubBook.ALICE;
 import static seedu.club.testutil.TypicalClubBook.BENSON;
 import static seedu.club.testutil.TypicalClubBook.MOVIE_NIGHT;
 import static seedu.club.testutil.TypicalClubBook.ORIENTATION;
+import static seedu.club.testutil.TypicalClubBook.getTypicalClubBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.club.commons.core.GuiSettings;
+import seedu.club.model.event.Event;
+import seedu.club.model.member.Member;
 import seedu.club.model.name.NameContainsKeywordsPredicate;
+import seedu.club.model.role.EventRole;
 import seedu.club.testutil.ClubBookBuilder;
+import seedu.club.testutil.MemberBuilder;
 
 public class ModelManagerTest {
 
@@ -198,4 +205,120 @@ public class ModelManagerTest {
         differentUserPrefs.setClubBookStorageFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(clubBook, differentUserPrefs)));
     }
+
+    @Test
+    public void equals_deferredFilteredListUpdates_comparesWithoutApplyingThem() {
+        modelManager = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        ModelManager filteredModelManager = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        filteredModelManager.updateFilteredMemberList(member -> member.isSameMember(ALICE));
+        List<Member> displayedMembers = modelManager.getFilteredMemberList();
+        int memberCount = displayedMembers.size();
+
+        modelManager.deferFilteredListUpdates();
+        modelManager.updateFilteredMemberList(member -> member.isSameMember(ALICE));
+        assertTrue(modelManager.equals(filteredModelManager));
+        assertEquals(memberCount, displayedMembers.size());
+
+        modelManager.applyDeferredFilteredListUpdates();
+        assertEquals(List.of(ALICE), displayedMembers);
+    }
+
+    @Test
+    public void undoRedoClubBook_clear_restoresClubBook() {
+        ModelManager modelManager = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        ClubBook originalClubBook = new ClubBook(modelManager.getClubBook());
+        Member alice = modelManager.findMemberByName(ALICE.getName()).get();
+        Event orientation = modelManager.findEventByName(ORIENTATION.getName()).get();
+        Set<EventRole> aliceRoles = orientation.getRolesOf(alice);
+
+        modelManager.setClubBook(new ClubBook());
+        modelManager.commitClubBook();
+        assertTrue(modelManager.canUndoClubBook());
+        assertFalse(modelManager.canRedoClubBook());
+
+        modelManager.undoClubBook();
+        assertEquals(originalClubBook, modelManager.getClubBook());
+        assertTrue(orientation.hasMember(alice));
+        assertEquals(aliceRoles, orientation.getRolesOf(alice));
+        assertFalse(modelManager.canUndoClubBook());
+        assertTrue(modelManager.canRedoClubBook());
+
+        modelManager.redoClubBook();
+        assertEquals(new ClubBook(), modelManager.getClubBook());
+    }
+
+    @Test
+    public void undoRedoClubBook_deleteMemberInRoster_restoresRosterAndRoles() {
+        ModelManager modelManager = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        Member alice = modelManager.findMemberByName(ALICE.getName()).get();
+        Event orientation = modelManager.findEventByName(ORIENTATION.getName()).get();
+        Set<EventRole> aliceRoles = orientation.getRolesOf(alice);
+
+        modelManager.deleteMember(alice);
+        modelManager.commitClubBook();
+        assertFalse(orientation.hasMember(alice));
+
+        modelManager.undoClubBook();
+        assertTrue(modelManager.hasMember(alice));
+        assertTrue(orientation.hasMember(alice));
+        assertEquals(aliceRoles, orientation.getRolesOf(alice));
+
+        modelManager.redoClubBook();
+        assertFalse(modelManager.hasMember(alice));
+        assertFalse(orientation.hasMember(alice));
+    }
+
+    @Test
+    public void undoRedoClubBook_deleteEvent_restoresEventRolesOfMembers() {
+        ModelManager modelManager = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        Member alice = modelManager.findMemberByName(ALICE.getName()).get();
+        Event orientation = modelManager.findEventByName(ORIENTATION.getName()).get();
+        Set<EventRole> aliceRoles = Set.copyOf(alice.getEventRoles());
+
+        // as done by the delete event command
+        orientation.getRoster().forEach(member -> member.removeEvent(orientation));
+        modelManager.deleteEvent(orientation);
+        modelManager.commitClubBook();
+
+        modelManager.undoClubBook();
+        assertTrue(modelManager.hasEvent(orientation));
+        assertEquals(aliceRoles, alice.getEventRoles());
+
+        modelManager.redoClubBook();
+        assertFalse(modelManager.hasEvent(orientation));
+        assertTrue(alice.getEventRoles().stream()
+                .noneMatch(role -> role.getAssignedTo().equals(orientation.getName())));
+    }
+
+    @Test
+    public void commitClubBook_changeAfterUndo_discardsRedoableSteps() {
+        modelManager.addMember(ALICE);
+        modelManager.commitClubBook();
+        modelManager.undoClubBook();
+        assertTrue(modelManager.canRedoClubBook());
+
+        // commits without changes keep the steps to redo
+        modelManager.commitClubBook();
+        assertTrue(modelManager.canRedoClubBook());
+
+        modelManager.addMember(BENSON);
+        modelManager.commitClubBook();
+        assertFalse(modelManager.canRedoClubBook());
+    }
+
+    @Test
+    public void undoClubBook_historyLongerThanLimit_keepsLatestSteps() {
+        for (int i = 0; i <= ModelManager.MAX_UNDO_HISTORY; i++) {
+            modelManager.addMember(new MemberBuilder().withName("Member " + i).build());
+            modelManager.commitClubBook();
+        }
+
+        int undoneSteps = 0;
+        while (modelManager.canUndoClubBook()) {
+            modelManager.undoClubBook();
+            undoneSteps++;
+        }
+        assertEquals(ModelManager.MAX_UNDO_HISTORY, undoneSteps);
+        assertEquals(1, modelManager.getFullMemberList().size());
+    }
 }
@@ -0,0 +1,91 @@
+package seedu.club.model;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import seedu.club.model.event.DateTime;
+import seedu.club.model.event.Event;
+import seedu.club.model.member.Email;
+import seedu.club.model.member.Phone;
+import seedu.club.model.name.Name;
+import seedu.club.model.role.Role;
+
+/**
+ * Times the validation of the fields of members and events, comparing each field's own validation method with
+ * {@code String#matches} on the same regex, which compiles the regex again on every call.
+ *
+ * It is not part of the tests, and is run on its own, with the optional argument {@code [ROUNDS]}, e.g. {@code 5}.
+ * Each round validates every sample value of each field {@value #CALLS_PER_ROUND} times in both ways, after a
+ * warm-up round, and reports the average time per call.
+ */
+public class ValidationBenchmark {
+
+    public static final int CALLS_PER_ROUND = 200_000;
+
+    private static final List<Field> FIELDS = List.of(
+            new Field("Name", Name.VALIDATION_REGEX, Name::isValidName,
+                    List.of("Alice Pauline", "Bob Choo-Tan", "O'Brien, (Jr.)")),
+            new Field("Phone", Phone.VALIDATION_REGEX, Phone::isValidPhone,
+                    List.of("94351253", "+65 98765432", "0612345678")),
+            new Field("Email", Email.VALIDATION_REGEX, Email::isValidEmail,
+                    List.of("alice@example.com", "john.doe+club@mail.nus.edu.sg", "a_b-c@d-e.org")),
+            new Field("Role", Role.VALIDATION_REGEX, Role::isValidRoleName,
+                    List.of("President", "Vice President", "Member 2")),
+            new Field("DateTime", DateTime.VALIDATION_REGEX, DateTime::isValidFormat,
+                    List.of("241012 1800", "010125 0900", "311224 2359")),
+            new Field("Event details", Event.VALIDATION_REGEX, Event::isValidDetails,
+                    List.of("Bring water", "Meet at the main hall, level 2", "Wear the club shirt")));
+
+    private static volatile boolean sink;
+
+    /**
+     * Runs the benchmark and prints the average time per call of each way of validating each field.
+     */
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        for (Field field : FIELDS) {
+            // warms up both ways, so that they are compiled before being timed
+            timeCalls(field.samples, value -> value.matches(field.regex));
+            timeCalls(field.samples, field.validator);
+
+            for (int round = 1; round <= rounds; round++) {
+                double matchesTime = timeCalls(field.samples, value -> value.matches(field.regex));
+                double patternTime = timeCalls(field.samples, field.validator);
+                System.out.println(String.format(Locale.ROOT, "%-14s round %d: String#matches %7.1f ns/call, "
+                        + "precompiled %6.1f ns/call", field.name, round, matchesTime, patternTime));
+            }
+        }
+    }
+
+    /**
+     * Validates every one of {@code samples} {@value #CALLS_PER_ROUND} times, and returns the average time per call
+     * in nanoseconds.
+     */
+    private static double timeCalls(List<String> samples, Predicate<String> validator) {
+        boolean result = true;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < CALLS_PER_ROUND; i++) {
+            for (String sample : samples) {
+                result &= validator.test(sample);
+            }
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        sink = result;
+        return (double) elapsedTime / ((long) CALLS_PER_ROUND * samples.size());
+    }
+
+    private static class Field {
+        private final String name;
+        private final String regex;
+        private final Predicate<String> validator;
+        private final List<String> samples;
+
+        private Field(String name, String regex, Predicate<String> validator, List<String> samples) {
+            this.name = name;
+            this.regex = regex;
+            this.validator = validator;
+            this.samples = samples;
+        }
+    }
+}
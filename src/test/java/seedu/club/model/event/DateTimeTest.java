@@ -65,6 +65,17 @@ public class DateTimeTest {
         assertTrue(test.isBefore(null));
     }
 
+    @Test
+    public void compareTo() {
+        DateTime test = new DateTime("101025 1200");
+
+        assertEquals(0, test.compareTo(new DateTime("101025 1200"))); // Same datetime
+        assertTrue(test.compareTo(new DateTime("101025 1201")) < 0); // Later time
+        assertTrue(test.compareTo(new DateTime("091125 1200")) < 0); // Later month despite earlier day
+        assertTrue(test.compareTo(new DateTime("101024 1200")) > 0); // Earlier year
+        assertThrows(NullPointerException.class, () -> test.compareTo(null));
+    }
+
     @Test
     public void toStringMethod() {
         DateTime test = new DateTime("151025 1200");
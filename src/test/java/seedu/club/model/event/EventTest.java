@@ -13,9 +13,16 @@ import static seedu.club.testutil.Assert.assertThrows;
 import static seedu.club.testutil.TypicalClubBook.BEACH_DAY;
 import static seedu.club.testutil.TypicalClubBook.ORIENTATION;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.club.model.member.Member;
+import seedu.club.model.name.Name;
+import seedu.club.model.role.EventRole;
 import seedu.club.testutil.EventBuilder;
+import seedu.club.testutil.MemberBuilder;
 
 public class EventTest {
 
@@ -83,6 +90,38 @@ public class EventTest {
         assertFalse(ORIENTATION.equals(editedOrientation));
     }
 
+    @Test
+    public void getMembersWithRole_rosterChanges_tracksRoleHolders() {
+        Name eventName = new Name(VALID_EVENT_NAME_ORIENTATION);
+        EventRole facilitator = new EventRole("facilitator", eventName);
+        EventRole gamemaster = new EventRole("gamemaster", eventName);
+        Member alice = new MemberBuilder().withName("Alice").withEventRoles(VALID_EVENT_NAME_ORIENTATION,
+                "facilitator").build();
+        Member bob = new MemberBuilder().withName("Bob").withEventRoles(VALID_EVENT_NAME_ORIENTATION,
+                "Facilitator", "gamemaster").withEventRoles("Beach Day", "facilitator").build();
+        Event event = new EventBuilder().withName(VALID_EVENT_NAME_ORIENTATION)
+                .withEventRoles("facilitator", "gamemaster", "usher").withRoster(Set.of(alice)).build();
+
+        // roster given on creation
+        assertEquals(Set.of(alice), event.getMembersWithRole(facilitator));
+        assertTrue(event.hasMemberWithRole(alice, facilitator));
+        assertEquals(List.of(gamemaster, new EventRole("usher", eventName)), event.getVacantRoles());
+
+        // roles of other events are ignored
+        event.addMember(bob);
+        assertEquals(Set.of(alice, bob), event.getMembersWithRole(facilitator));
+        assertEquals(1, event.countMembersWithRole(gamemaster));
+
+        // role changes of a member in the roster
+        bob.removeEventRole(Set.of(gamemaster));
+        event.updateRolesOf(bob);
+        assertEquals(0, event.countMembersWithRole(gamemaster));
+        assertFalse(event.hasMemberWithRole(bob, gamemaster));
+
+        event.removeMemberFromRoster(alice);
+        assertEquals(Set.of(bob), event.getMembersWithRole(facilitator));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Event.class.getCanonicalName()
@@ -0,0 +1,86 @@
+package seedu.club.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.club.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.club.testutil.EventBuilder;
+
+public class EventTimeIndexTest {
+
+    private static final LocalDateTime START_OF_HISTORY = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int MINUTES_OF_HISTORY = 5 * 365 * 24 * 60;
+
+    private final EventTimeIndex timeIndex = new EventTimeIndex();
+
+    @Test
+    public void findOverlapping_nullPeriod_throwsNullPointerException() {
+        DateTime dateTime = new DateTime("151025 1200");
+        assertThrows(NullPointerException.class, () -> timeIndex.findOverlapping(null, dateTime));
+        assertThrows(NullPointerException.class, () -> timeIndex.findOverlapping(dateTime, null));
+    }
+
+    @Test
+    public void findOverlapping_eventsWithSameStart_returnsEveryEvent() {
+        Event first = new EventBuilder().withName("First").build();
+        Event second = new EventBuilder().withName("second").build();
+        timeIndex.add(second);
+        timeIndex.add(first);
+
+        assertEquals(List.of(first, second), timeIndex.findOverlapping(first.getFrom(), first.getFrom()));
+
+        timeIndex.remove(first);
+        assertEquals(List.of(second), timeIndex.findOverlapping(first.getFrom(), first.getTo()));
+    }
+
+    @Test
+    public void findOverlapping_randomEventsAddedAndRemoved_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // Mostly short events, with the occasional event lasting for months
+            int duration = random.nextInt(10) == 0 ? random.nextInt(200_000) + 1 : random.nextInt(600) + 1;
+            int start = random.nextInt(MINUTES_OF_HISTORY);
+            events.add(new EventBuilder().withName("Event " + i)
+                    .withFrom(toDateTimeString(start)).withTo(toDateTimeString(start + duration)).build());
+        }
+        timeIndex.setEvents(events);
+
+        for (int i = 0; i < events.size(); i += 3) {
+            timeIndex.remove(events.get(i));
+        }
+        List<Event> remainingEvents = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (i % 3 != 0) {
+                remainingEvents.add(events.get(i));
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(MINUTES_OF_HISTORY);
+            DateTime from = new DateTime(toDateTimeString(start));
+            DateTime to = new DateTime(toDateTimeString(start + random.nextInt(20_000)));
+            assertEquals(findOverlappingByScan(remainingEvents, from, to), timeIndex.findOverlapping(from, to));
+        }
+    }
+
+    private static List<Event> findOverlappingByScan(List<Event> events, DateTime from, DateTime to) {
+        return events.stream()
+                .filter(event -> event.getFrom().compareTo(to) <= 0 && event.getTo().compareTo(from) >= 0)
+                .sorted(Comparator.comparing(Event::getFrom)
+                        .thenComparing(event -> event.getName().fullName.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    private static String toDateTimeString(int minutesIntoHistory) {
+        return START_OF_HISTORY.plusMinutes(minutesIntoHistory).format(DateTime.DATETIME_FORMAT);
+    }
+}
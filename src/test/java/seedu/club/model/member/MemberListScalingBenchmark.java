@@ -0,0 +1,58 @@
+package seedu.club.model.member;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.club.testutil.MemberBuilder;
+
+/**
+ * Times {@link UniqueMemberList#setMembers(List)}, which checks that the members are unique, for growing numbers of
+ * members up to {@value #MAX_MEMBER_COUNT}, to show that the time it takes grows linearly with the number of members.
+ *
+ * It is not part of the tests, and is run on its own, with the optional argument {@code [ROUNDS]}, e.g. {@code 5}.
+ * Each round replaces the contents of a list with each number of members in turn, after a warm-up round, and
+ * reports the time taken and the average time per member.
+ */
+public class MemberListScalingBenchmark {
+
+    public static final int MAX_MEMBER_COUNT = 100_000;
+
+    private static final int[] MEMBER_COUNTS = {12_500, 25_000, 50_000, MAX_MEMBER_COUNT};
+
+    /**
+     * Runs the benchmark and prints the time taken for each number of members.
+     */
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        List<Member> allMembers = new ArrayList<>();
+        for (int i = 0; i < MAX_MEMBER_COUNT; i++) {
+            allMembers.add(new MemberBuilder().withName("Member " + i).build());
+        }
+
+        // warms up, so that the code is compiled before being timed
+        for (int memberCount : MEMBER_COUNTS) {
+            timeSetMembers(allMembers.subList(0, memberCount));
+        }
+
+        for (int round = 1; round <= rounds; round++) {
+            for (int memberCount : MEMBER_COUNTS) {
+                long elapsedTime = timeSetMembers(allMembers.subList(0, memberCount));
+                System.out.println(String.format(Locale.ROOT, "round %d: %,7d members in %7.1f ms, %6.0f ns/member",
+                        round, memberCount, elapsedTime / 1e6, (double) elapsedTime / memberCount));
+            }
+        }
+    }
+
+    /**
+     * Returns the time taken in nanoseconds to replace the contents of a new list with {@code members}.
+     */
+    private static long timeSetMembers(List<Member> members) {
+        UniqueMemberList uniqueMemberList = new UniqueMemberList();
+        long startTime = System.nanoTime();
+        uniqueMemberList.setMembers(members);
+        long elapsedTime = System.nanoTime() - startTime;
+        assert uniqueMemberList.asUnmodifiableObservableList().size() == members.size();
+        return elapsedTime;
+    }
+}
@@ -8,14 +8,18 @@ import static seedu.club.testutil.Assert.assertThrows;
 import static seedu.club.testutil.TypicalClubBook.ALICE;
 import static seedu.club.testutil.TypicalMembers.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.club.model.member.exceptions.DuplicateMemberException;
 import seedu.club.model.member.exceptions.MemberNotFoundException;
+import seedu.club.model.name.Name;
+import seedu.club.model.role.MemberRole;
 import seedu.club.testutil.MemberBuilder;
 
 public class UniqueMemberListTest {
@@ -46,6 +50,28 @@ public class UniqueMemberListTest {
         assertTrue(uniqueMemberList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_memberWithDifferentCaseName_returnsTrue() {
+        uniqueMemberList.add(ALICE);
+        Member upperCaseAlice = new MemberBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniqueMemberList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.remove(ALICE);
+        assertFalse(uniqueMemberList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetMemberWithDifferentIdentity_tracksEditedMember() {
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.setMember(ALICE, BOB);
+        assertFalse(uniqueMemberList.contains(ALICE));
+        assertTrue(uniqueMemberList.contains(BOB));
+    }
+
     @Test
     public void add_nullMember_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueMemberList.add(null));
@@ -140,6 +166,18 @@ public class UniqueMemberListTest {
         assertEquals(expectedUniqueMemberList, uniqueMemberList);
     }
 
+    @Test
+    public void setMembers_list_replacesIdentityIndex() {
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.setMembers(Collections.singletonList(BOB));
+        assertFalse(uniqueMemberList.contains(ALICE));
+        assertTrue(uniqueMemberList.contains(BOB));
+
+        // ALICE is no longer indexed, so she can be added again
+        uniqueMemberList.add(ALICE);
+        assertTrue(uniqueMemberList.contains(ALICE));
+    }
+
     @Test
     public void setMembers_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueMemberList.setMembers((List<Member>) null));
@@ -161,6 +199,75 @@ public class UniqueMemberListTest {
         assertThrows(DuplicateMemberException.class, () -> uniqueMemberList.setMembers(listWithDuplicateMembers));
     }
 
+    @Test
+    public void setMembers_listWithDuplicateMembers_reportsEveryDuplicateName() {
+        Member upperCaseBob = new MemberBuilder(BOB).withName(BOB.getName().fullName.toUpperCase()).build();
+        List<Member> listWithDuplicateMembers = Arrays.asList(ALICE, BOB, ALICE, upperCaseBob);
+        assertThrows(DuplicateMemberException.class,
+                new DuplicateMemberException(List.of(ALICE.getName(), BOB.getName())).getMessage(), ()
+                -> uniqueMemberList.setMembers(listWithDuplicateMembers));
+    }
+
+    @Test
+    public void setMembers_largeList_checksUniquenessWithoutComparingMembers() {
+        // A pairwise uniqueness check compares about 50 million pairs of this many members, while a hashed pass
+        // only looks their names up
+        AccessCount accessCount = new AccessCount();
+        List<Member> members = createMembers(10_000, accessCount);
+        uniqueMemberList.setMembers(members);
+        assertEquals(0, accessCount.comparisons);
+        assertEquals(10_000, uniqueMemberList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void findNamesContainingAnyOf_largeList_usesTokenIndex() {
+        AccessCount accessCount = new AccessCount();
+        List<Member> members = createMembers(10_000, accessCount);
+        uniqueMemberList.setMembers(members);
+        accessCount.nameReads = 0;
+
+        // A scan reads the name of every member for every query, while a lookup reads none
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Set.of(new Name("Member " + i)),
+                    uniqueMemberList.findNamesContainingAnyOf(List.of(String.valueOf(i))));
+        }
+        assertEquals(0, accessCount.nameReads);
+
+        uniqueMemberList.remove(members.get(0));
+        assertEquals(Set.of(), uniqueMemberList.findNamesContainingAnyOf(List.of("0")));
+    }
+
+    @Test
+    public void findNamesWithFields_afterEdits_tracksCurrentFields() {
+        uniqueMemberList.add(ALICE);
+        uniqueMemberList.add(BOB);
+        assertEquals(Set.of(ALICE.getName()), uniqueMemberList.findNamesWithPhone(ALICE.getPhone()));
+        assertEquals(Set.of(BOB.getName()), uniqueMemberList.findNamesWithEmail(BOB.getEmail()));
+
+        // roles compare case-insensitively
+        assertEquals(Set.of(ALICE.getName(), BOB.getName()),
+                uniqueMemberList.findNamesWithRole(new MemberRole("PRESIDENT")));
+
+        // edited fields replace the old ones
+        Member editedAlice = new MemberBuilder(ALICE).withPhone("91234567").withMemberRoles("Treasurer").build();
+        uniqueMemberList.setMember(ALICE, editedAlice);
+        assertEquals(Set.of(), uniqueMemberList.findNamesWithPhone(ALICE.getPhone()));
+        assertEquals(Set.of(ALICE.getName()), uniqueMemberList.findNamesWithPhone(new Phone("91234567")));
+        assertEquals(Set.of(BOB.getName()), uniqueMemberList.findNamesWithRole(new MemberRole("President")));
+        assertEquals(Set.of(ALICE.getName(), BOB.getName()),
+                uniqueMemberList.findNamesWithRole(new MemberRole("Treasurer")));
+
+        // removed members are no longer found
+        uniqueMemberList.remove(BOB);
+        assertEquals(Set.of(), uniqueMemberList.findNamesWithEmail(BOB.getEmail()));
+        assertEquals(Set.of(ALICE.getName()), uniqueMemberList.findNamesWithRole(new MemberRole("Treasurer")));
+
+        // replacing the list rebuilds the indexes
+        uniqueMemberList.setMembers(List.of(BOB));
+        assertEquals(Set.of(), uniqueMemberList.findNamesWithEmail(ALICE.getEmail()));
+        assertEquals(Set.of(BOB.getName()), uniqueMemberList.findNamesWithPhone(BOB.getPhone()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -171,4 +278,55 @@ public class UniqueMemberListTest {
     public void toStringMethod() {
         assertEquals(uniqueMemberList.asUnmodifiableObservableList().toString(), uniqueMemberList.toString());
     }
+
+    private static List<Member> createMembers(int count, AccessCount accessCount) {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            members.add(new CountingMember(new MemberBuilder().withName("Member " + i).build(), accessCount));
+        }
+        return members;
+    }
+
+    /**
+     * How often the names of {@code CountingMember}s were read, and how often they were compared to other members.
+     */
+    private static class AccessCount {
+        private int nameReads;
+        private int comparisons;
+    }
+
+    /**
+     * A member that counts the accesses to it that a scan of the list would make.
+     */
+    private static class CountingMember extends Member {
+        private final AccessCount accessCount;
+
+        CountingMember(Member member, AccessCount accessCount) {
+            super(member.getName(), member.getPhone(), member.getEmail(), member.getMemberRoles());
+            this.accessCount = accessCount;
+        }
+
+        @Override
+        public Name getName() {
+            accessCount.nameReads++;
+            return super.getName();
+        }
+
+        @Override
+        public boolean isSameMember(Member otherMember) {
+            accessCount.comparisons++;
+            return super.isSameMember(otherMember);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            accessCount.comparisons++;
+            return super.equals(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+    }
 }
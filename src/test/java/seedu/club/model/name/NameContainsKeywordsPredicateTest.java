@@ -61,6 +61,14 @@ public class NameContainsKeywordsPredicateTest<T extends NamedEntity> {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new MemberBuilder().withName("Alice Bob").build()));
+
+        // Prefix keyword
+        predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("ali*"));
+        assertTrue(predicate.test(new MemberBuilder().withName("Alice Bob").build()));
+
+        // Typo-tolerant keyword
+        predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("Alise~"));
+        assertTrue(predicate.test(new MemberBuilder().withName("Alice Bob").build()));
     }
 
     @Test
@@ -73,6 +81,14 @@ public class NameContainsKeywordsPredicateTest<T extends NamedEntity> {
         predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("Carol"));
         assertFalse(predicate.test(new MemberBuilder().withName("Alice Bob").build()));
 
+        // Partial word without a prefix marker
+        predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("Ali"));
+        assertFalse(predicate.test(new MemberBuilder().withName("Alice Bob").build()));
+
+        // Too many typos
+        predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("Alxxe~"));
+        assertFalse(predicate.test(new MemberBuilder().withName("Alice Bob").build()));
+
         // Keywords match phone, and email, but does not match name
         predicate = new NameContainsKeywordsPredicate<>(Arrays.asList("92123345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new MemberBuilder().withName("Alice").withPhone("92123345")
@@ -0,0 +1,84 @@
+package seedu.club.model.name;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.club.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class NameKeywordTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> NameKeyword.of(null));
+    }
+
+    @Test
+    public void of_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> NameKeyword.of("*"));
+    }
+
+    @Test
+    public void isValidKeyword() {
+        // invalid keywords
+        assertFalse(NameKeyword.isValidKeyword("")); // empty string
+        assertFalse(NameKeyword.isValidKeyword("  ")); // spaces only
+        assertFalse(NameKeyword.isValidKeyword("*")); // prefix marker only
+        assertFalse(NameKeyword.isValidKeyword("~")); // typo marker only
+
+        // valid keywords
+        assertTrue(NameKeyword.isValidKeyword("alice"));
+        assertTrue(NameKeyword.isValidKeyword("a*"));
+        assertTrue(NameKeyword.isValidKeyword("a~"));
+        assertTrue(NameKeyword.isValidKeyword("**")); // searches for words starting with *
+    }
+
+    @Test
+    public void of_validKeyword_parsesWordAndMatchType() {
+        NameKeyword keyword = NameKeyword.of("Alice");
+        assertEquals("alice", keyword.getWord());
+        assertEquals(NameKeyword.MatchType.WHOLE_WORD, keyword.getMatchType());
+        assertEquals(0, keyword.getMaxTypos());
+
+        keyword = NameKeyword.of("ALI*");
+        assertEquals("ali", keyword.getWord());
+        assertEquals(NameKeyword.MatchType.PREFIX, keyword.getMatchType());
+
+        keyword = NameKeyword.of("Alcie~");
+        assertEquals("alcie", keyword.getWord());
+        assertEquals(NameKeyword.MatchType.TYPO_TOLERANT, keyword.getMatchType());
+        assertEquals(1, keyword.getMaxTypos());
+        assertEquals(2, NameKeyword.of("Paulien~").getMaxTypos());
+    }
+
+    @Test
+    public void matches() {
+        assertTrue(NameKeyword.of("alice").matches("ALICE"));
+        assertFalse(NameKeyword.of("alice").matches("alic"));
+
+        assertTrue(NameKeyword.of("al*").matches("Alice"));
+        assertFalse(NameKeyword.of("al*").matches("Carl"));
+
+        assertTrue(NameKeyword.of("alise~").matches("Alice"));
+        assertFalse(NameKeyword.of("bb~").matches("Bobby"));
+    }
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, NameKeyword.editDistance("alice", "alice"));
+        assertEquals(5, NameKeyword.editDistance("", "alice"));
+        assertEquals(1, NameKeyword.editDistance("alice", "alce")); // deletion
+        assertEquals(1, NameKeyword.editDistance("alice", "alicee")); // insertion
+        assertEquals(1, NameKeyword.editDistance("alice", "alike")); // substitution
+        assertEquals(2, NameKeyword.editDistance("alice", "alcie")); // transposition
+        assertEquals(3, NameKeyword.editDistance("kitten", "sitting"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("ali*", NameKeyword.of("Ali*").toString());
+        assertEquals("alcie~", NameKeyword.of("Alcie~").toString());
+        assertEquals("alice", NameKeyword.of("ALICE").toString());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.club.model.name;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.club.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NamePositionIndexTest {
+
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final Name BOB = new Name("Bob Choo");
+    private static final Name CARL = new Name("Carl Kurz");
+    private static final Name DANIEL = new Name("Daniel Meier");
+
+    private final List<Name> names = new ArrayList<>();
+    private NamePositionIndex<Name> positionIndex;
+
+    @BeforeEach
+    public void setUp() {
+        positionIndex = new NamePositionIndex<>(names, Function.identity());
+        add(0, ALICE);
+        add(1, BOB);
+        add(2, CARL);
+    }
+
+    @Test
+    public void indexOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> positionIndex.indexOf(null));
+    }
+
+    @Test
+    public void indexOf_appendedNames_returnsPositions() {
+        assertPositions();
+        assertEquals(0, positionIndex.indexOf(new Name("alice pauline")));
+        assertEquals(-1, positionIndex.indexOf(DANIEL));
+    }
+
+    @Test
+    public void indexOf_nameAddedInMiddle_laterPositionsShifted() {
+        add(1, DANIEL);
+        assertPositions();
+    }
+
+    @Test
+    public void indexOf_nameRemoved_laterPositionsShifted() {
+        names.remove(0);
+        positionIndex.removed(ALICE, 0);
+
+        assertPositions();
+        assertEquals(-1, positionIndex.indexOf(ALICE));
+    }
+
+    @Test
+    public void indexOf_nameReplaced_replacementAtSamePosition() {
+        names.set(1, DANIEL);
+        positionIndex.replaced(BOB, 1);
+
+        assertPositions();
+        assertEquals(-1, positionIndex.indexOf(BOB));
+    }
+
+    @Test
+    public void indexOf_afterReset_returnsNewPositions() {
+        names.clear();
+        names.addAll(List.of(CARL, DANIEL));
+        positionIndex.reset();
+
+        assertPositions();
+        assertEquals(-1, positionIndex.indexOf(ALICE));
+    }
+
+    @Test
+    public void indexOf_changesBetweenLookups_returnsCurrentPositions() {
+        assertPositions();
+        names.remove(1);
+        positionIndex.removed(BOB, 1);
+        add(0, BOB);
+        add(3, DANIEL);
+
+        assertPositions();
+    }
+
+    private void add(int position, Name name) {
+        names.add(position, name);
+        positionIndex.added(position);
+    }
+
+    /**
+     * Asserts that the index returns the position of every name in {@code names}.
+     */
+    private void assertPositions() {
+        for (int i = 0; i < names.size(); i++) {
+            assertEquals(i, positionIndex.indexOf(names.get(i)));
+        }
+    }
+}
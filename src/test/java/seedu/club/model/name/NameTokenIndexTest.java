@@ -0,0 +1,97 @@
+package seedu.club.model.name;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.club.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameTokenIndexTest {
+
+    private static final Name ALICE_PAULINE = new Name("Alice Pauline");
+    private static final Name ALICE_BOB = new Name("alice  Bob");
+    private static final Name CARL = new Name("Carl Kurz");
+
+    private final NameTokenIndex tokenIndex = new NameTokenIndex();
+
+    @Test
+    public void findNamesContainingAnyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tokenIndex.findNamesContainingAnyOf(null));
+    }
+
+    @Test
+    public void findNamesContainingAnyOf_matchesFullWordsIgnoringCase() {
+        tokenIndex.setNames(List.of(ALICE_PAULINE, ALICE_BOB, CARL));
+
+        // one keyword matching several names
+        assertEquals(Set.of(ALICE_PAULINE, ALICE_BOB), tokenIndex.findNamesContainingAnyOf(List.of("ALICE")));
+
+        // any of several keywords
+        assertEquals(Set.of(ALICE_BOB, CARL), tokenIndex.findNamesContainingAnyOf(List.of("bob", "kURz")));
+
+        // partial words do not match
+        assertEquals(Set.of(), tokenIndex.findNamesContainingAnyOf(List.of("Ali", "Paul")));
+    }
+
+    @Test
+    public void findNamesContainingAnyOf_prefixKeyword_matchesWordsStartingWithIt() {
+        tokenIndex.setNames(List.of(ALICE_PAULINE, ALICE_BOB, CARL));
+
+        assertEquals(Set.of(ALICE_PAULINE, ALICE_BOB), tokenIndex.findNamesContainingAnyOf(List.of("AL*")));
+        assertEquals(Set.of(ALICE_PAULINE, CARL), tokenIndex.findNamesContainingAnyOf(List.of("paul*", "k*")));
+
+        // a whole word is its own prefix
+        assertEquals(Set.of(ALICE_BOB), tokenIndex.findNamesContainingAnyOf(List.of("bob*")));
+
+        // longer than any word
+        assertEquals(Set.of(), tokenIndex.findNamesContainingAnyOf(List.of("bobby*")));
+    }
+
+    @Test
+    public void findNamesContainingAnyOf_typoTolerantKeyword_matchesWordsWithinEditDistance() {
+        tokenIndex.setNames(List.of(ALICE_PAULINE, ALICE_BOB, CARL));
+
+        // substitution, insertion and deletion in a short word
+        assertEquals(Set.of(CARL), tokenIndex.findNamesContainingAnyOf(List.of("kurt~")));
+        assertEquals(Set.of(CARL), tokenIndex.findNamesContainingAnyOf(List.of("carrl~")));
+        assertEquals(Set.of(ALICE_BOB), tokenIndex.findNamesContainingAnyOf(List.of("bo~")));
+
+        // two typos are allowed in a longer word only
+        assertEquals(Set.of(ALICE_PAULINE), tokenIndex.findNamesContainingAnyOf(List.of("paulien~")));
+        assertEquals(Set.of(), tokenIndex.findNamesContainingAnyOf(List.of("kruzz~")));
+
+        // results match the edit distance computed directly
+        for (String keyword : List.of("alcie~", "bbo~", "pauline~", "x~", "carlos~")) {
+            NameKeyword nameKeyword = NameKeyword.of(keyword);
+            Set<Name> expectedNames = new HashSet<>();
+            for (Name name : List.of(ALICE_PAULINE, ALICE_BOB, CARL)) {
+                for (String word : name.fullName.split("\\s+")) {
+                    if (nameKeyword.matches(word)) {
+                        expectedNames.add(name);
+                    }
+                }
+            }
+            assertEquals(expectedNames, tokenIndex.findNamesContainingAnyOf(List.of(keyword)));
+        }
+    }
+
+    @Test
+    public void remove_indexedName_noLongerFound() {
+        tokenIndex.add(ALICE_PAULINE);
+        tokenIndex.add(ALICE_BOB);
+
+        // removal goes by name, which ignores case
+        tokenIndex.remove(new Name("ALICE PAULINE"));
+        assertEquals(Set.of(ALICE_BOB), tokenIndex.findNamesContainingAnyOf(List.of("alice", "pauline")));
+
+        // removing a name that is not indexed does nothing
+        tokenIndex.remove(CARL);
+        assertEquals(Set.of(ALICE_BOB), tokenIndex.findNamesContainingAnyOf(List.of("alice")));
+
+        // words only used by the removed name are no longer reachable by prefix
+        assertEquals(Set.of(), tokenIndex.findNamesContainingAnyOf(List.of("pau*")));
+    }
+}
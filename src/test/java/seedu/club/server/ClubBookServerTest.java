@@ -0,0 +1,176 @@
+package seedu.club.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.club.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.club.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.club.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.club.testutil.TypicalClubBook.BENSON;
+import static seedu.club.testutil.TypicalClubBook.DANIEL;
+import static seedu.club.testutil.TypicalClubBook.getTypicalClubBook;
+import static seedu.club.testutil.TypicalMembers.AMY;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.club.commons.util.JsonUtil;
+import seedu.club.logic.LogicManager;
+import seedu.club.logic.Messages;
+import seedu.club.logic.commands.member.AddMemberCommand;
+import seedu.club.model.Model;
+import seedu.club.model.ModelManager;
+import seedu.club.model.UserPrefs;
+import seedu.club.model.member.Member;
+import seedu.club.model.name.NameKeyword;
+import seedu.club.storage.JsonClubBookStorage;
+import seedu.club.storage.JsonUserPrefsStorage;
+import seedu.club.storage.StorageManager;
+
+public class ClubBookServerTest {
+
+    private static final String ADD_AMY_COMMAND = AddMemberCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private Model model;
+    private ClubBookServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model = new ModelManager(getTypicalClubBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonClubBookStorage(temporaryFolder.resolve("clubbook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ClubBookServer(new LogicManager(model, storage), 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getMembers_noQuery_returnsAllMembersInOrder() throws Exception {
+        HttpResponse<String> response = get(ClubBookServer.MEMBERS_PATH);
+
+        assertEquals(ClubBookServer.HTTP_OK, response.statusCode());
+        assertEquals(toJson(0, "members", model.getClubBook().getMemberList().stream()
+                .map(JsonMemberData::new).toList()), response.body());
+    }
+
+    @Test
+    public void getMembers_findQuery_returnsMatchingMembers() throws Exception {
+        HttpResponse<String> response = get(ClubBookServer.MEMBERS_PATH + "?find=MEIER%20dani*");
+
+        assertEquals(ClubBookServer.HTTP_OK, response.statusCode());
+        assertEquals(toJson(0, "members", List.of(memberData(BENSON), memberData(DANIEL))), response.body());
+    }
+
+    @Test
+    public void getEvents_findQuery_returnsMatchingEvents() throws Exception {
+        HttpResponse<String> response = get(ClubBookServer.EVENTS_PATH + "?find=beach");
+
+        assertEquals(ClubBookServer.HTTP_OK, response.statusCode());
+        assertEquals(toJson(0, "events", model.getClubBook().getEventList().stream()
+                .filter(event -> event.getName().fullName.equals("Beach Day"))
+                .map(JsonEventData::new).toList()), response.body());
+    }
+
+    @Test
+    public void getEvents_invalidKeyword_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = get(ClubBookServer.EVENTS_PATH + "?find=*");
+
+        assertEquals(ClubBookServer.HTTP_BAD_REQUEST, response.statusCode());
+        assertEquals(toJson(Map.of("error", NameKeyword.MESSAGE_CONSTRAINTS)), response.body());
+    }
+
+    @Test
+    public void postCommand_validCommand_executesCommandAndUpdatesReads() throws Exception {
+        HttpResponse<String> response = postCommand(ADD_AMY_COMMAND);
+
+        Member addedMember = model.findMemberByName(AMY.getName()).get();
+        assertEquals(ClubBookServer.HTTP_OK, response.statusCode());
+        assertEquals(toJson(1, "feedback", String.format(AddMemberCommand.MESSAGE_SUCCESS,
+                Messages.format(addedMember)).replace('\\', '/')), response.body());
+
+        HttpResponse<String> membersResponse = get(ClubBookServer.MEMBERS_PATH + "?find=amy");
+        assertEquals(toJson(1, "members", List.of(new JsonMemberData(addedMember))), membersResponse.body());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = postCommand("notACommand");
+
+        assertEquals(ClubBookServer.HTTP_BAD_REQUEST, response.statusCode());
+        assertEquals(toJson(Map.of("error", MESSAGE_UNKNOWN_COMMAND)), response.body());
+    }
+
+    @Test
+    public void postCommand_invalidBody_returnsBadRequest() throws Exception {
+        for (String body : List.of("", "null", "[\"listMembers\"]", "{\"command\": 1}")) {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uriOf(ClubBookServer.COMMANDS_PATH))
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+
+            assertEquals(ClubBookServer.HTTP_BAD_REQUEST, response.statusCode());
+            assertEquals(toJson(Map.of("error", ClubBookServer.MESSAGE_INVALID_COMMAND_REQUEST)), response.body());
+        }
+    }
+
+    @Test
+    public void request_unknownPathOrMethod_returnsError() throws Exception {
+        assertEquals(ClubBookServer.HTTP_NOT_FOUND, get("/").statusCode());
+        assertEquals(ClubBookServer.HTTP_NOT_FOUND, get(ClubBookServer.MEMBERS_PATH + "/1").statusCode());
+
+        HttpResponse<String> response = get(ClubBookServer.COMMANDS_PATH);
+        assertEquals(ClubBookServer.HTTP_METHOD_NOT_ALLOWED, response.statusCode());
+        assertEquals(List.of("POST"), response.headers().allValues("Allow"));
+    }
+
+    private JsonMemberData memberData(Member typicalMember) {
+        return new JsonMemberData(model.findMemberByName(typicalMember.getName()).get());
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(uriOf(path)).GET());
+    }
+
+    private HttpResponse<String> postCommand(String commandText) throws IOException, InterruptedException {
+        String body = JsonUtil.toCompactJsonString(Map.of(ClubBookServer.COMMAND_FIELD, commandText));
+        return send(HttpRequest.newBuilder(uriOf(ClubBookServer.COMMANDS_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder requestBuilder) throws IOException, InterruptedException {
+        return httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uriOf(String path) {
+        return URI.create(server.getAddress() + path);
+    }
+
+    private static String toJson(long version, String name, Object value) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", version);
+        body.put(name, value);
+        return toJson(body);
+    }
+
+    private static String toJson(Object value) throws IOException {
+        return JsonUtil.toCompactJsonString(value);
+    }
+}
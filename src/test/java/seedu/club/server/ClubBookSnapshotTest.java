@@ -0,0 +1,88 @@
+package seedu.club.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.club.testutil.TypicalClubBook.BENSON;
+import static seedu.club.testutil.TypicalClubBook.CARL;
+import static seedu.club.testutil.TypicalClubBook.DANIEL;
+import static seedu.club.testutil.TypicalClubBook.getTypicalClubBook;
+import static seedu.club.testutil.TypicalMembers.AMY;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.club.commons.util.JsonUtil;
+import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookChanges;
+import seedu.club.model.member.Member;
+import seedu.club.testutil.MemberBuilder;
+
+public class ClubBookSnapshotTest {
+
+    private ClubBook clubBook;
+    private ClubBookSnapshot snapshot;
+
+    @BeforeEach
+    public void setUp() {
+        clubBook = getTypicalClubBook();
+        clubBook.pollChanges();
+        snapshot = new ClubBookSnapshot(clubBook, 0);
+    }
+
+    @Test
+    public void update_noChanges_sharesCopies() {
+        ClubBookSnapshot updatedSnapshot = snapshot.update(clubBook, ClubBookChanges.NONE, 1);
+
+        assertEquals(1, updatedSnapshot.getVersion());
+        assertSame(snapshot.getMembers(), updatedSnapshot.getMembers());
+        assertSame(snapshot.getEvents(), updatedSnapshot.getEvents());
+    }
+
+    @Test
+    public void update_membersAddedEditedAndRemoved_sameAsNewSnapshot() throws IOException {
+        Member carl = findMember(CARL);
+        clubBook.setMember(carl, new MemberBuilder(carl).withPhone("91234567").build());
+        clubBook.removeMember(findMember(DANIEL));
+        // a member removed and added again moves to the end without any name changing
+        Member benson = findMember(BENSON);
+        clubBook.removeMember(benson);
+        clubBook.addMember(benson);
+        clubBook.addMember(new MemberBuilder(AMY).build());
+
+        ClubBookSnapshot updatedSnapshot = snapshot.update(clubBook, clubBook.pollChanges(), 1);
+
+        assertSameContents(new ClubBookSnapshot(clubBook, 1), updatedSnapshot);
+        assertEquals(toJson(new ClubBookSnapshot(clubBook, 1).findMembers(List.of("meier", "amy"))),
+                toJson(updatedSnapshot.findMembers(List.of("meier", "amy"))));
+        // members the changes did not touch are not copied again
+        assertSame(snapshot.getMembers().get(0), updatedSnapshot.getMembers().get(0));
+    }
+
+    @Test
+    public void update_reset_sameAsNewSnapshot() throws IOException {
+        clubBook.resetData(new ClubBook());
+        clubBook.addMember(new MemberBuilder(AMY).build());
+
+        ClubBookSnapshot updatedSnapshot = snapshot.update(clubBook, clubBook.pollChanges(), 1);
+
+        assertSameContents(new ClubBookSnapshot(clubBook, 1), updatedSnapshot);
+        assertEquals(1, updatedSnapshot.findMembers(List.of("amy")).size());
+    }
+
+    private Member findMember(Member typicalMember) {
+        return clubBook.findMember(typicalMember.getName()).get();
+    }
+
+    private static void assertSameContents(ClubBookSnapshot expected, ClubBookSnapshot actual) throws IOException {
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(toJson(expected.getMembers()), toJson(actual.getMembers()));
+        assertEquals(toJson(expected.getEvents()), toJson(actual.getEvents()));
+    }
+
+    private static String toJson(Object value) throws IOException {
+        return JsonUtil.toCompactJsonString(value);
+    }
+}
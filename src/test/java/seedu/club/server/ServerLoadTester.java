@@ -0,0 +1,165 @@
+package seedu.club.server;
+
+import static seedu.club.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.club.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.club.commons.util.JsonUtil;
+import seedu.club.logic.commands.member.AddMemberCommand;
+
+/**
+ * Sends requests to a {@code ClubBookServer} from several clients at once, and reports the 50th and 99th percentile
+ * latencies of the requests. Each client lists members, finds members and lists events in turn, and every
+ * {@value #COMMAND_INTERVAL}th request adds a new member instead.
+ *
+ * It is not part of the tests, and is run on its own against a server that is already running, with the arguments
+ * {@code ADDRESS [CLIENT_COUNT] [REQUESTS_PER_CLIENT]}, e.g. {@code http://127.0.0.1:8080 8 1000}.
+ * Note that the members it adds are kept in that server's club book.
+ */
+public class ServerLoadTester {
+
+    public static final int COMMAND_INTERVAL = 10;
+
+    private final URI address;
+    private final int clientCount;
+    private final int requestsPerClient;
+    private final String runId = Long.toString(System.currentTimeMillis() % 1_000_000);
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    /**
+     * Creates a {@code ServerLoadTester} that sends {@code requestsPerClient} requests from each of
+     * {@code clientCount} clients to the server at {@code address}.
+     */
+    public ServerLoadTester(URI address, int clientCount, int requestsPerClient) {
+        this.address = address;
+        this.clientCount = clientCount;
+        this.requestsPerClient = requestsPerClient;
+    }
+
+    /**
+     * Sends all the requests and returns the latencies they were responded to with.
+     */
+    public Report run() throws InterruptedException {
+        long[][] latencies = new long[clientCount][requestsPerClient];
+        AtomicInteger failureCount = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            int clientIndex = i;
+            clients.execute(() -> {
+                for (int requestIndex = 0; requestIndex < requestsPerClient; requestIndex++) {
+                    HttpRequest request = createRequest(clientIndex, requestIndex);
+                    long startTime = System.nanoTime();
+                    if (!send(request)) {
+                        failureCount.incrementAndGet();
+                    }
+                    latencies[clientIndex][requestIndex] = System.nanoTime() - startTime;
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+        long[] sortedLatencies = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Report(clientCount, sortedLatencies.length, failureCount.get(),
+                percentile(sortedLatencies, 50), percentile(sortedLatencies, 99));
+    }
+
+    private HttpRequest createRequest(int clientIndex, int requestIndex) {
+        if (requestIndex % COMMAND_INTERVAL == COMMAND_INTERVAL - 1) {
+            String command = AddMemberCommand.COMMAND_WORD + " " + PREFIX_NAME + "Load Tester " + runId + " "
+                    + clientIndex + " " + requestIndex + " " + PREFIX_PHONE + "91234567 " + PREFIX_EMAIL
+                    + "loadtester@example.com";
+            return HttpRequest.newBuilder(address.resolve(ClubBookServer.COMMANDS_PATH))
+                    .POST(HttpRequest.BodyPublishers.ofString(toJson(Map.of(ClubBookServer.COMMAND_FIELD, command))))
+                    .build();
+        }
+
+        switch (requestIndex % 3) {
+        case 0:
+            return HttpRequest.newBuilder(address.resolve(ClubBookServer.MEMBERS_PATH)).build();
+        case 1:
+            return HttpRequest.newBuilder(address.resolve(ClubBookServer.MEMBERS_PATH + "?"
+                    + ClubBookServer.FIND_PARAMETER + "=meier+tester~")).build();
+        default:
+            return HttpRequest.newBuilder(address.resolve(ClubBookServer.EVENTS_PATH)).build();
+        }
+    }
+
+    /**
+     * Sends {@code request} and returns true if it succeeded.
+     */
+    private boolean send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == ClubBookServer.HTTP_OK;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String toJson(Object instance) {
+        try {
+            return JsonUtil.toCompactJsonString(instance);
+        } catch (IOException e) {
+            throw new AssertionError("Requests should be convertible to JSON", e);
+        }
+    }
+
+    /**
+     * Returns the smallest of the {@code sortedValues} that is at least as large as {@code percent} of them.
+     */
+    private static long percentile(long[] sortedValues, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: ServerLoadTester ADDRESS [CLIENT_COUNT] [REQUESTS_PER_CLIENT]");
+            return;
+        }
+        int clientCount = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int requestsPerClient = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        System.out.println(new ServerLoadTester(URI.create(args[0]), clientCount, requestsPerClient).run());
+    }
+
+    /**
+     * The latencies of the requests sent in a run.
+     */
+    public static class Report {
+        private final int clientCount;
+        private final int requestCount;
+        private final int failureCount;
+        private final long p50Nanos;
+        private final long p99Nanos;
+
+        Report(int clientCount, int requestCount, int failureCount, long p50Nanos, long p99Nanos) {
+            this.clientCount = clientCount;
+            this.requestCount = requestCount;
+            this.failureCount = failureCount;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests from %d clients, %d failed: p50 %.2f ms, p99 %.2f ms",
+                    requestCount, clientCount, failureCount, p50Nanos / 1e6, p99Nanos / 1e6);
+        }
+    }
+}
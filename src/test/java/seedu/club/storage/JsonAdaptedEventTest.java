@@ -6,12 +6,15 @@ import static seedu.club.testutil.Assert.assertThrows;
 import static seedu.club.testutil.TypicalClubBook.ORIENTATION;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
 import seedu.club.commons.exceptions.IllegalValueException;
 import seedu.club.model.event.DateTime;
 import seedu.club.model.member.Member;
@@ -32,8 +35,8 @@ public class JsonAdaptedEventTest {
                             .collect(Collectors.toList());
     private static final List<String> VALID_EVENT_ROSTER = TypicalClubBook.getTypicalMembers()
             .stream().map(m -> m.getName().toString()).toList();
-    private static final ObservableList<Member> VALID_EVENT_MEMBERS = TypicalClubBook.getTypicalClubBook()
-            .getMemberList();
+    private static final Map<String, Member> VALID_EVENT_MEMBERS = TypicalClubBook.getTypicalClubBook()
+            .getMemberList().stream().collect(Collectors.toMap(m -> m.getName().toString(), m -> m));
 
     @Test
     public void toModelType_validEvent_returnsEvent() throws Exception {
@@ -96,4 +99,42 @@ public class JsonAdaptedEventTest {
         );
         assertThrows(IllegalValueException.class, () -> event.toModelType(VALID_EVENT_MEMBERS));
     }
+
+    @Test
+    public void toModelType_roster_looksUpEachMemberByName() throws Exception {
+        LookupCountingMap membersByName = new LookupCountingMap(VALID_EVENT_MEMBERS);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(
+                VALID_NAME, VALID_FROM, VALID_TO, VALID_DETAILS, VALID_EVENT_ROLES, VALID_EVENT_ROSTER
+        );
+
+        assertEquals(VALID_EVENT_ROSTER.size(), event.toModelType(membersByName).getRoster().size());
+        assertEquals(VALID_EVENT_ROSTER.size(), membersByName.lookupCount);
+    }
+
+    /**
+     * A map of members that counts the lookups by name, and fails if it is scanned instead.
+     */
+    private static class LookupCountingMap extends HashMap<String, Member> {
+        private int lookupCount;
+
+        LookupCountingMap(Map<String, Member> membersByName) {
+            super(membersByName);
+        }
+
+        @Override
+        public Member get(Object name) {
+            lookupCount++;
+            return super.get(name);
+        }
+
+        @Override
+        public Collection<Member> values() {
+            throw new AssertionError("Members should be looked up by name");
+        }
+
+        @Override
+        public Set<Map.Entry<String, Member>> entrySet() {
+            throw new AssertionError("Members should be looked up by name");
+        }
+    }
 }
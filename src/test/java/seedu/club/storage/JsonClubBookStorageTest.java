@@ -2,6 +2,7 @@ package seedu.club.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.club.testutil.Assert.assertThrows;
 import static seedu.club.testutil.TypicalClubBook.MEETING;
 import static seedu.club.testutil.TypicalClubBook.ORIENTATION;
@@ -12,6 +13,7 @@ import static seedu.club.testutil.TypicalMembers.HOON;
 import static seedu.club.testutil.TypicalMembers.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.club.commons.exceptions.DataLoadingException;
+import seedu.club.commons.util.FileUtil;
 import seedu.club.model.ClubBook;
 import seedu.club.model.ReadOnlyClubBook;
 
@@ -139,6 +142,140 @@ public class JsonClubBookStorageTest {
 
     }
 
+    @Test
+    public void saveClubBookChanges_afterFullSave_appendsOnlyChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempClubBook.json");
+        ClubBook original = getTypicalClubBook();
+        JsonClubBookStorage jsonClubBookStorage = new JsonClubBookStorage(filePath);
+        jsonClubBookStorage.saveClubBookChanges(original, original.pollChanges());
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addEvent(MEETING);
+        original.removeEvent(ORIENTATION);
+        original.addMember(HOON);
+        original.removeMember(ALICE);
+        jsonClubBookStorage.saveClubBookChanges(original, original.pollChanges());
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertTrue(Files.exists(JsonClubBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new ClubBook(new JsonClubBookStorage(filePath).readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBookChanges_thresholdReached_foldsJournalIntoDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempClubBook.json");
+        ClubBook original = getTypicalClubBook();
+        JsonClubBookStorage jsonClubBookStorage = new JsonClubBookStorage(filePath, 1);
+        jsonClubBookStorage.saveClubBookChanges(original, original.pollChanges());
+
+        original.addMember(HOON);
+        jsonClubBookStorage.saveClubBookChanges(original, original.pollChanges());
+        assertTrue(Files.exists(JsonClubBookStorage.getJournalFilePath(filePath)));
+
+        original.addMember(IDA);
+        jsonClubBookStorage.saveClubBookChanges(original, original.pollChanges());
+        assertFalse(Files.exists(JsonClubBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new ClubBook(jsonClubBookStorage.readClubBook().get()));
+    }
+
+    @Test
+    public void readClubBook_incompleteLastJournalEntry_entrySkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempClubBook.json");
+        ClubBook original = getTypicalClubBook();
+        JsonClubBookStorage jsonClubBookStorage = new JsonClubBookStorage(filePath);
+        jsonClubBookStorage.saveClubBookChanges(original, original.pollChanges());
+        original.addMember(HOON);
+        jsonClubBookStorage.saveClubBookChanges(original, original.pollChanges());
+
+        FileUtil.appendToFile(JsonClubBookStorage.getJournalFilePath(filePath), "{\"members\":[{\"name\":");
+        assertEquals(original, new ClubBook(jsonClubBookStorage.readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBookChanges_afterReadingIncompleteJournalEntry_changesReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempClubBook.json");
+        ClubBook original = getTypicalClubBook();
+        new JsonClubBookStorage(filePath).saveClubBookChanges(original, original.pollChanges());
+        FileUtil.appendToFile(JsonClubBookStorage.getJournalFilePath(filePath), "{\"members\":[{\"name\":");
+
+        JsonClubBookStorage jsonClubBookStorage = new JsonClubBookStorage(filePath);
+        ClubBook loaded = new ClubBook(jsonClubBookStorage.readClubBook().get());
+        loaded.pollChanges();
+        loaded.addMember(HOON);
+        jsonClubBookStorage.saveClubBookChanges(loaded, loaded.pollChanges());
+        loaded.addMember(IDA);
+        jsonClubBookStorage.saveClubBookChanges(loaded, loaded.pollChanges());
+
+        assertEquals(loaded, new ClubBook(new JsonClubBookStorage(filePath).readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBook_notPrettyPrinted_readBackOnSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempClubBook.json");
+        ClubBook original = getTypicalClubBook();
+        JsonClubBookStorage jsonClubBookStorage = new JsonClubBookStorage(filePath,
+                JsonClubBookStorage.DEFAULT_COMPACTION_THRESHOLD, JsonClubBookStorage.DEFAULT_BACKUP_COUNT, false);
+
+        jsonClubBookStorage.saveClubBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new ClubBook(jsonClubBookStorage.readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBook_existingDataFile_previousVersionKeptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempClubBook.json");
+        ClubBook original = getTypicalClubBook();
+        JsonClubBookStorage jsonClubBookStorage = new JsonClubBookStorage(filePath);
+        jsonClubBookStorage.saveClubBook(original);
+        ClubBook previous = new ClubBook(original);
+
+        original.addMember(HOON);
+        jsonClubBookStorage.saveClubBook(original);
+        FileUtil.writeToFile(filePath, "{ \"members\": [");
+
+        assertThrows(DataLoadingException.class, () -> jsonClubBookStorage.readClubBook());
+        Path latestBackup = jsonClubBookStorage.getClubBookBackupFilePaths().get(0);
+        assertEquals(previous, new ClubBook(jsonClubBookStorage.readClubBook(latestBackup).get()));
+    }
+
+    @Test
+    public void saveClubBook_journaledChanges_keptWithBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempClubBook.json");
+        ClubBook original = getTypicalClubBook();
+        JsonClubBookStorage jsonClubBookStorage = new JsonClubBookStorage(filePath);
+        jsonClubBookStorage.saveClubBook(original);
+        original.pollChanges();
+        original.addMember(HOON);
+        jsonClubBookStorage.saveClubBookChanges(original, original.pollChanges());
+        ClubBook previous = new ClubBook(original);
+
+        original.addMember(IDA);
+        jsonClubBookStorage.saveClubBook(original);
+
+        Path latestBackup = jsonClubBookStorage.getClubBookBackupFilePaths().get(0);
+        assertEquals(previous, new ClubBook(jsonClubBookStorage.readClubBook(latestBackup).get()));
+        assertEquals(original, new ClubBook(jsonClubBookStorage.readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBookChanges_afterDataFileCouldNotBeRead_dataFileRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempClubBook.json");
+        JsonClubBookStorage jsonClubBookStorage = new JsonClubBookStorage(filePath);
+        jsonClubBookStorage.saveClubBook(getTypicalClubBook());
+        jsonClubBookStorage.saveClubBook(getTypicalClubBook());
+        FileUtil.writeToFile(filePath, "{ \"members\": [");
+
+        JsonClubBookStorage restartedStorage = new JsonClubBookStorage(filePath);
+        assertThrows(DataLoadingException.class, () -> restartedStorage.readClubBook());
+        Path latestBackup = restartedStorage.getClubBookBackupFilePaths().get(0);
+        ClubBook loaded = new ClubBook(restartedStorage.readClubBook(latestBackup).get());
+        loaded.pollChanges();
+        loaded.addMember(HOON);
+        restartedStorage.saveClubBookChanges(loaded, loaded.pollChanges());
+
+        assertEquals(loaded, new ClubBook(new JsonClubBookStorage(filePath).readClubBook().get()));
+    }
+
     @Test
     public void saveClubBook_nullClubBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveClubBook(null, "SomeFile.json"));
@@ -5,12 +5,17 @@ import static seedu.club.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.club.commons.exceptions.IllegalValueException;
 import seedu.club.commons.util.JsonUtil;
 import seedu.club.model.ClubBook;
+import seedu.club.model.event.Event;
+import seedu.club.model.member.Email;
 import seedu.club.testutil.TypicalClubBook;
 import seedu.club.testutil.TypicalMembers;
 
@@ -25,6 +30,9 @@ public class JsonSerializableClubBookTest {
     private static final Path DUPLICATE_EVENT_FILE = TEST_DATA_FOLDER.resolve("duplicateEventOnlyClubBook.json");
     private static final Path TYPICAL_CLUBBOOK_FILE = TEST_DATA_FOLDER.resolve("typicalClubBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalEventsFile_success() throws Exception {
         JsonSerializableClubBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_EVENTS_FILE,
@@ -82,4 +90,67 @@ public class JsonSerializableClubBookTest {
         assertEquals(clubBookFromFile, typicalClubBook);
     }
 
+    @Test
+    public void toModelType_convertingInParallel_sameResultAsSequential() throws Exception {
+        JsonSerializableClubBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_CLUBBOOK_FILE,
+                JsonSerializableClubBook.class).get();
+        ClubBook clubBookFromFile = dataFromFile.toModelType(true);
+        assertEquals(TypicalClubBook.getTypicalClubBook(), clubBookFromFile);
+        assertEquals(dataFromFile.toModelType(false).getMemberList(), clubBookFromFile.getMemberList());
+
+        JsonSerializableClubBook invalidData = JsonUtil.readJsonFile(INVALID_MEMBER_FILE,
+                JsonSerializableClubBook.class).get();
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () -> invalidData.toModelType(true));
+
+        JsonSerializableClubBook duplicateData = JsonUtil.readJsonFile(DUPLICATE_MEMBER_FILE,
+                JsonSerializableClubBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableClubBook.MESSAGE_DUPLICATE_MEMBER, () ->
+                duplicateData.toModelType(true));
+    }
+
+    @Test
+    public void toModelType_invalidMemberAmongManyConvertedInParallel_reportsFirstInvalidMember() {
+        List<JsonAdaptedMember> members = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableClubBook.PARALLEL_CONVERSION_THRESHOLD; i++) {
+            members.add(new JsonAdaptedMember("Member " + i, String.valueOf(10_000_000 + i),
+                    "member" + i + "@example.com", List.of(), List.of()));
+        }
+        members.set(700, new JsonAdaptedMember("Member 700", "not a phone", "member700@example.com",
+                List.of(), List.of()));
+        members.set(300, new JsonAdaptedMember("Member 300", "12345678", "not an email", List.of(), List.of()));
+
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableClubBook(members, List.of()).toModelType());
+    }
+
+    @Test
+    public void toModelType_largeGeneratedFile_resolvesEveryRoster() throws Exception {
+        int memberCount = 2_000;
+        int eventCount = 200;
+        int rosterSize = 10;
+
+        List<JsonAdaptedMember> members = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(new JsonAdaptedMember("Member " + i, String.valueOf(10_000_000 + i),
+                    "member" + i + "@example.com", List.of(), List.of()));
+        }
+        List<JsonAdaptedEvent> events = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            List<String> roster = new ArrayList<>();
+            for (int j = 0; j < rosterSize; j++) {
+                roster.add("Member " + ((i * rosterSize + j) % memberCount));
+            }
+            events.add(new JsonAdaptedEvent("Event " + i, "151025 1200", "171025 1800", "", List.of(), roster));
+        }
+        Path generatedFile = testFolder.resolve("generatedClubBook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableClubBook(members, events), generatedFile);
+
+        ClubBook clubBookFromFile = JsonUtil.readJsonFile(generatedFile, JsonSerializableClubBook.class).get()
+                .toModelType();
+        assertEquals(memberCount, clubBookFromFile.getMemberList().size());
+        assertEquals(eventCount, clubBookFromFile.getEventList().size());
+        for (Event event : clubBookFromFile.getEventList()) {
+            assertEquals(rosterSize, event.getRoster().size());
+        }
+    }
 }
@@ -2,8 +2,12 @@ package seedu.club.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.club.testutil.Assert.assertThrows;
 import static seedu.club.testutil.TypicalClubBook.getTypicalClubBook;
+import static seedu.club.testutil.TypicalMembers.ALICE;
+import static seedu.club.testutil.TypicalMembers.HOON;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.club.commons.core.GuiSettings;
 import seedu.club.model.ClubBook;
+import seedu.club.model.ClubBookChanges;
 import seedu.club.model.ReadOnlyClubBook;
 import seedu.club.model.UserPrefs;
 
@@ -60,6 +65,52 @@ public class StorageManagerTest {
         assertEquals(original, new ClubBook(retrieved));
     }
 
+    @Test
+    public void saveClubBookChanges_savingInBackground_savedBeforeLaterSave() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new JsonClubBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                true);
+        ClubBook original = getTypicalClubBook();
+        backgroundStorageManager.saveClubBookChanges(original, original.pollChanges());
+        original.addMember(HOON);
+        original.removeMember(ALICE);
+        backgroundStorageManager.saveClubBookChanges(original, original.pollChanges());
+
+        // waits for the background saves before writing elsewhere
+        backgroundStorageManager.saveClubBook(new ClubBook(), getTempFilePath("other"));
+        assertEquals(original, new ClubBook(backgroundStorageManager.readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBookChanges_firstChangesNotReset_wholeClubBookSaved() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new JsonClubBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                true);
+        ClubBook original = getTypicalClubBook();
+        original.pollChanges();
+        original.addMember(HOON);
+        backgroundStorageManager.saveClubBookChanges(original, original.pollChanges());
+
+        backgroundStorageManager.saveClubBook(new ClubBook(), getTempFilePath("other"));
+        assertEquals(original, new ClubBook(backgroundStorageManager.readClubBook().get()));
+    }
+
+    @Test
+    public void saveClubBookChanges_backgroundSaveFails_failureReportedByNextSave() throws Exception {
+        IOException failure = new IOException("dummy");
+        JsonClubBookStorage failingStorage = new JsonClubBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveClubBookChanges(ReadOnlyClubBook clubBook, ClubBookChanges changes) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        ClubBook original = getTypicalClubBook();
+
+        backgroundStorageManager.saveClubBookChanges(original, original.pollChanges());
+        assertThrows(IOException.class, () -> backgroundStorageManager.saveClubBook(original));
+    }
 
     @Test
     public void getClubBookFilePath() {
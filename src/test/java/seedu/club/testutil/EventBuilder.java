@@ -114,7 +114,7 @@ public class EventBuilder {
      * @return EventBuilder
      */
     public EventBuilder withRoster(Set<Member> members) {
-        this.roster.addAll(members);
+        this.roster = new HashSet<>(members);
         return this;
     }
 
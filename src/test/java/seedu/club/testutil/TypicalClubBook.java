@@ -2,12 +2,16 @@ package seedu.club.testutil;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.club.model.ClubBook;
 import seedu.club.model.event.Event;
 import seedu.club.model.member.Member;
+import seedu.club.model.name.Name;
 
 /**
  * A utility class containing a list of {@code Member} and {@code Event} objects to be used in tests.
@@ -78,14 +82,21 @@ public class TypicalClubBook {
 
     /**
      * @return an {@code ClubBook} with all the typical events and members.
+     * As in a loaded club book, the event rosters hold the same members as the member list.
      */
     public static ClubBook getTypicalClubBook() {
         ClubBook cb = new ClubBook();
-        for (Event event : getTypicalEvents()) {
-            cb.addEvent(new EventBuilder(event).build());
-        }
+        Map<Name, Member> membersByName = new HashMap<>();
         for (Member member : getTypicalMembers()) {
-            cb.addMember(new MemberBuilder(member).build());
+            Member memberCopy = new MemberBuilder(member).build();
+            membersByName.put(memberCopy.getName(), memberCopy);
+            cb.addMember(memberCopy);
+        }
+        for (Event event : getTypicalEvents()) {
+            Set<Member> roster = event.getRoster().stream()
+                    .map(member -> membersByName.get(member.getName()))
+                    .collect(Collectors.toSet());
+            cb.addEvent(new EventBuilder(event).withRoster(roster).build());
         }
         return cb;
     }